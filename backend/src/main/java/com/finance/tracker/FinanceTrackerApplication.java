@@ -1,7 +1,11 @@
 package com.finance.tracker;
 
 import com.finance.tracker.model.Category;
+import com.finance.tracker.repository.CompletedBackfillRepository;
 import com.finance.tracker.service.CategoryService;
+import com.finance.tracker.service.TransactionSearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -10,6 +14,8 @@ import org.springframework.context.annotation.Bean;
 @SpringBootApplication
 public class FinanceTrackerApplication {
 
+    private static final Logger log = LoggerFactory.getLogger(FinanceTrackerApplication.class);
+
     public static void main(String[] args) {
         SpringApplication.run(FinanceTrackerApplication.class, args);
     }
@@ -23,7 +29,20 @@ public class FinanceTrackerApplication {
             seedCategoryIfNotExists(categoryService, "Utilities", Category.CategoryType.EXPENSE);
             seedCategoryIfNotExists(categoryService, "Salary", Category.CategoryType.INCOME);
 
-            System.out.println("Default categories seeded successfully!");
+            log.info("Default categories seeded");
+        };
+    }
+
+    @Bean
+    public CommandLineRunner backfillNoteIndex(CompletedBackfillRepository completedBackfillRepository,
+            TransactionSearchService searchService) {
+        return args -> {
+            // Index the notes of transactions recorded before search existed, once; requests
+            // may already be writing, which the backfill tolerates
+            if (!completedBackfillRepository.existsById(TransactionSearchService.NOTE_INDEX_BACKFILL)) {
+                searchService.indexExistingNotes();
+                log.info("Transaction note index backfilled");
+            }
         };
     }
 
@@ -31,12 +50,13 @@ public class FinanceTrackerApplication {
         if (!categoryService.existsByName(name)) {
             try {
                 categoryService.createCategory(name, type);
-                System.out.println("Created default category: " + name + " (" + type + ")");
+                log.atInfo().addKeyValue("category", name).addKeyValue("type", type)
+                        .log("Created default category");
             } catch (Exception e) {
-                System.err.println("Failed to create category " + name + ": " + e.getMessage());
+                log.atError().addKeyValue("category", name).setCause(e).log("Failed to create default category");
             }
         } else {
-            System.out.println("Category already exists: " + name);
+            log.atDebug().addKeyValue("category", name).log("Default category already exists");
         }
     }
 
@@ -0,0 +1,15 @@
+package com.finance.tracker.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Caffeine-backed caches for the small, rarely changing rows nearly every request starts with.
+// Size, TTL and stats recording come from spring.cache.caffeine.spec.
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USERS = "users";
+    public static final String CATEGORIES = "categories";
+    public static final String CATEGORY_LIST = "categoryList";
+}
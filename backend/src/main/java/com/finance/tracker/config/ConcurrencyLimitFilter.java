@@ -0,0 +1,123 @@
+package com.finance.tracker.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Caps concurrent /api requests. With virtual threads there is no request thread pool left to
+// bound the load, so excess requests wait briefly for a permit and are then shed with 503
+// rather than piling up behind the JDBC pool. Only authenticated requests get this far.
+@Component
+@Order(SessionTokenFilter.ORDER + 1)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxInFlight;
+    private final long queueTimeoutMillis;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ConcurrencyLimitFilter(@Value("${finance.concurrency.max-in-flight:64}") int maxInFlight,
+            @Value("${finance.concurrency.queue-timeout-ms:100}") long queueTimeoutMillis) {
+        this.permits = new Semaphore(maxInFlight, true);
+        this.maxInFlight = maxInFlight;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+    }
+
+    // Same decoded path as SessionTokenFilter; the raw URI would let /%61pi/... through unlimited
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = SessionTokenFilter.routedPath(request);
+        return !(path.equals("/api") || path.startsWith("/api/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.incrementAndGet();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType("text/plain");
+            response.getWriter().write("Server is busy, please retry shortly");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            // A streamed body (the NDJSON export) is still being written, and holding its
+            // connection, after the handler returns; its permit goes back when the response completes
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnCompletion());
+            } else {
+                permits.release();
+            }
+        }
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getInFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    // Error and timeout are followed by complete, so the permit is released once, by whichever comes first
+    private class ReleaseOnCompletion implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        // A new async cycle drops the listeners of the previous one
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
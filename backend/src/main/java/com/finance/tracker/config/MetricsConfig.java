@@ -0,0 +1,37 @@
+package com.finance.tracker.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Enables @Timed on the services and publishes the API limiter alongside the meters Boot binds
+// on its own (HTTP requests, repository invocations, Hikari, Hibernate, caches, JVM).
+// Service and repository timers are tagged by class and method only, never by argument.
+@Configuration
+public class MetricsConfig {
+
+    public static final String SERVICE_TIMER = "finance.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(ConcurrencyLimitFilter limiter) {
+        return registry -> {
+            Gauge.builder("finance.api.inflight", limiter, ConcurrencyLimitFilter::getInFlight)
+                    .description("API requests currently holding a concurrency permit")
+                    .register(registry);
+            Gauge.builder("finance.api.inflight.max", limiter, ConcurrencyLimitFilter::getMaxInFlight)
+                    .register(registry);
+            FunctionCounter.builder("finance.api.rejected", limiter, ConcurrencyLimitFilter::getRejectedCount)
+                    .description("API requests shed with 503 because no permit was free")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.finance.tracker.config;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+// Logback filter passing at most maxPerSecond events in each wall-clock second and denying
+// the rest. Configured in logback-spring.xml to sample the slow-query log.
+public class RateLimitingLogFilter extends Filter<ILoggingEvent> {
+
+    private int maxPerSecond = 5;
+    private long currentSecond;
+    private int passedThisSecond;
+
+    @Override
+    public synchronized FilterReply decide(ILoggingEvent event) {
+        long second = event.getTimeStamp() / 1000;
+        if (second != currentSecond) {
+            currentSecond = second;
+            passedThisSecond = 0;
+        }
+        return passedThisSecond++ < maxPerSecond ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+}
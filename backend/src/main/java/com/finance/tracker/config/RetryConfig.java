@@ -0,0 +1,11 @@
+package com.finance.tracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+// @Retryable advice is ordered just outside @Transactional, so every attempt gets a fresh
+// transaction and persistence context
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
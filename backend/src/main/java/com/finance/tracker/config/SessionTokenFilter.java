@@ -0,0 +1,78 @@
+package com.finance.tracker.config;
+
+import com.finance.tracker.service.SessionTokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+// Resolves the caller from the bearer token issued at login and exposes it as the USER_ID
+// request attribute. Controllers take the user from there, never from a userId parameter,
+// and nothing is looked up per request. Runs before ConcurrencyLimitFilter, so requests it
+// rejects never take a permit.
+@Component
+@Order(SessionTokenFilter.ORDER)
+public class SessionTokenFilter extends OncePerRequestFilter {
+
+    public static final String USER_ID = "com.finance.tracker.session.userId";
+    // After CorrelationIdFilter and the HTTP observation filter, so rejections are logged and timed
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Set<String> PUBLIC_PATHS = Set.of("/api/auth/login", "/api/auth/register",
+            "/api/auth/test");
+
+    private final SessionTokenService sessionTokenService;
+
+    public SessionTokenFilter(SessionTokenService sessionTokenService) {
+        this.sessionTokenService = sessionTokenService;
+    }
+
+    // Decided on the path the container routes on: decoded, with dot segments, duplicate slashes
+    // and path parameters removed. The raw URI would let /%61pi/... past the check while Spring
+    // MVC still dispatches it to the /api controller.
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = routedPath(request);
+        return !(path.equals("/api") || path.startsWith("/api/")) || PUBLIC_PATHS.contains(path);
+    }
+
+    static String routedPath(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        return pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            reject(response, "Authentication required");
+            return;
+        }
+        Long userId = sessionTokenService.verify(authorization.substring(BEARER_PREFIX.length()));
+        if (userId == null) {
+            reject(response, "Invalid or expired session");
+            return;
+        }
+
+        request.setAttribute(USER_ID, userId);
+        chain.doFilter(request, response);
+    }
+
+    private void reject(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        response.setContentType("text/plain");
+        response.getWriter().write(message);
+    }
+}
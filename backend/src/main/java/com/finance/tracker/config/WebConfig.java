@@ -1,40 +1,60 @@
 package com.finance.tracker.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 import org.springframework.web.servlet.resource.PathResourceResolver;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    // Resolutions are remembered per request path and encoding. The caches are bounded because
+    // every client-side route, and every bogus path, gets an entry of its own.
+    static final int RESOLVED_RESOURCE_CACHE_SIZE = 2_000;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // Serve static resources from React build
+        // The React build names everything under static/js and static/css after its content hash,
+        // so a cached copy never goes stale
+        registry.addResourceHandler("/static/**")
+                .addResourceLocations("classpath:/static/static/")
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .resourceChain(true, resolvedResourceCache("hashedAssets"))
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new PathResourceResolver());
+
+        // Everything else, index.html above all, points at the current bundle and is revalidated
+        // on every load; Last-Modified turns that into a 304
         registry.addResourceHandler("/**")
                 .addResourceLocations("classpath:/static/")
-                .resourceChain(true)
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true, resolvedResourceCache("spaResources"))
+                .addResolver(new EncodedResourceResolver())
                 .addResolver(new PathResourceResolver() {
                     @Override
                     protected Resource getResource(String resourcePath, Resource location) throws IOException {
-                        Resource requestedResource = location.createRelative(resourcePath);
-
-                        // If the requested resource exists, return it
-                        if (requestedResource.exists() && requestedResource.isReadable()) {
-                            return requestedResource;
+                        // The regular lookup keeps the location and path traversal checks
+                        Resource resource = super.getResource(resourcePath, location);
+                        if (resource != null || resourcePath.startsWith("api/")) {
+                            return resource;
                         }
 
                         // For SPA routing, return index.html for non-API requests
-                        if (!resourcePath.startsWith("api/")) {
-                            return new ClassPathResource("/static/index.html");
-                        }
-
-                        return null;
+                        return super.getResource("index.html", location);
                     }
                 });
     }
-}
\ No newline at end of file
+
+    private static Cache resolvedResourceCache(String name) {
+        return new CaffeineCache(name, Caffeine.newBuilder().maximumSize(RESOLVED_RESOURCE_CACHE_SIZE).build());
+    }
+}
@@ -1,29 +1,39 @@
 package com.finance.tracker.controller;
 
+import com.finance.tracker.dto.CredentialsRequest;
+import com.finance.tracker.dto.UserInfoResponse;
 import com.finance.tracker.model.User;
+import com.finance.tracker.service.SessionTokenService;
 import com.finance.tracker.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
     private final UserService userService;
+    private final SessionTokenService sessionTokenService;
 
-    public AuthController(UserService userService) {
+    public AuthController(UserService userService, SessionTokenService sessionTokenService) {
         this.userService = userService;
+        this.sessionTokenService = sessionTokenService;
     }
 
     @PostMapping("/register")
-    public ResponseEntity<?> register(@RequestBody Map<String, String> request) {
+    public ResponseEntity<?> register(@RequestBody CredentialsRequest request) {
         try {
-            String username = request.get("username");
-            String password = request.get("password");
+            String username = request.username();
+            String password = request.password();
 
             if (username == null || username.trim().isEmpty()) {
                 return ResponseEntity.badRequest().body("Username is required");
@@ -33,30 +43,23 @@ public class AuthController {
             }
 
             User user = userService.registerUser(username, password);
-            Map<String, Object> userInfo = Map.of(
-                    "userId", user.getId(),
-                    "username", user.getUsername(),
-                    "displayName", user.getDisplayName() != null ? user.getDisplayName() : user.getUsername(),
-                    "preferredCurrency", user.getPreferredCurrency() != null ? user.getPreferredCurrency() : "USD",
-                    "monthlyIncomeGoal",
-                    user.getMonthlyIncomeGoal() != null ? user.getMonthlyIncomeGoal() : java.math.BigDecimal.ZERO);
-            return ResponseEntity.status(HttpStatus.CREATED).body(userInfo);
+            return ResponseEntity.status(HttpStatus.CREATED).body(UserInfoResponse.from(user, sessionTokenService.issue(user.getId())));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Server is busy, please retry shortly");
         } catch (Exception e) {
-            System.err.println("Registration error: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Registration failed", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Registration failed");
         }
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody Map<String, String> request) {
+    public ResponseEntity<?> login(@RequestBody CredentialsRequest request) {
         try {
-            String username = request.get("username");
-            String password = request.get("password");
-
-            System.out.println("Login attempt for username: " + username);
+            String username = request.username();
+            String password = request.password();
 
             if (username == null || username.trim().isEmpty()) {
                 return ResponseEntity.badRequest().body("Username is required");
@@ -65,36 +68,18 @@ public class AuthController {
                 return ResponseEntity.badRequest().body("Password is required");
             }
 
-            Optional<User> userOptional = userService.findByUsername(username);
-            if (userOptional.isPresent()) {
-                User user = userOptional.get();
-                System.out.println("User found: " + user.getUsername());
-                System.out.println("Stored password: " + (user.getPassword() == null ? "NULL" : "SET"));
-                System.out.println("Provided password: " + (password == null ? "NULL" : "SET"));
-
-                // Simple password verification (in production, use proper password hashing)
-                if (user.getPassword() != null && password.equals(user.getPassword())) {
-                    System.out.println("Password match successful");
-                    Map<String, Object> userInfo = Map.of(
-                            "userId", user.getId(),
-                            "username", user.getUsername(),
-                            "displayName", user.getDisplayName() != null ? user.getDisplayName() : user.getUsername(),
-                            "preferredCurrency",
-                            user.getPreferredCurrency() != null ? user.getPreferredCurrency() : "USD",
-                            "monthlyIncomeGoal", user.getMonthlyIncomeGoal() != null ? user.getMonthlyIncomeGoal()
-                                    : java.math.BigDecimal.ZERO);
-                    return ResponseEntity.ok().body(userInfo);
-                } else {
-                    System.out.println("Password mismatch or stored password is null");
-                }
-            } else {
-                System.out.println("User not found for username: " + username);
+            Optional<User> user = userService.authenticate(username, password);
+            if (user.isPresent()) {
+                Long userId = user.get().getId();
+                return ResponseEntity.ok().body(UserInfoResponse.from(user.get(), sessionTokenService.issue(userId)));
             }
-
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid credentials");
+        } catch (RejectedExecutionException e) {
+            // The password hash pool is saturated; shed the login rather than queue it
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Server is busy, please retry shortly");
         } catch (Exception e) {
-            System.err.println("Login error: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Login failed", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Login failed");
         }
     }
@@ -107,23 +92,12 @@ public class AuthController {
     @PostMapping("/admin/fix-passwords")
     public ResponseEntity<?> fixPasswords() {
         try {
-            // Get all users with null passwords and fix them
-            java.util.List<User> allUsers = userService.getAllUsers();
-            int fixedCount = 0;
-
-            for (User user : allUsers) {
-                if (user.getPassword() == null || user.getPassword().trim().isEmpty()) {
-                    user.setPassword("password123");
-                    userService.saveUser(user);
-                    fixedCount++;
-                    System.out.println("Fixed password for user: " + user.getUsername());
-                }
-            }
-
+            // Give users with missing passwords the default one, in batches
+            int fixedCount = userService.resetMissingPasswords("password123");
+            log.atInfo().addKeyValue("users", fixedCount).log("Reset missing passwords");
             return ResponseEntity.ok().body("Fixed " + fixedCount + " users with NULL passwords");
         } catch (Exception e) {
-            System.err.println("Error fixing passwords: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Password reset failed", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to fix passwords");
         }
     }
@@ -1,43 +1,53 @@
 package com.finance.tracker.controller;
 
+import com.finance.tracker.config.SessionTokenFilter;
+import com.finance.tracker.dto.BudgetRequest;
+import com.finance.tracker.dto.BudgetResponse;
+import com.finance.tracker.dto.BudgetWithSpend;
 import com.finance.tracker.model.Budget;
 import com.finance.tracker.service.BudgetService;
+import com.finance.tracker.service.ChangeStampService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
-import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/budgets")
 public class BudgetController {
 
     private final BudgetService budgetService;
+    private final ChangeStampService changeStampService;
 
-    public BudgetController(BudgetService budgetService) {
+    public BudgetController(BudgetService budgetService, ChangeStampService changeStampService) {
         this.budgetService = budgetService;
+        this.changeStampService = changeStampService;
     }
 
     @GetMapping
-    public ResponseEntity<?> getBudgets(@RequestParam Long userId) {
+    public ResponseEntity<?> getBudgets(@RequestAttribute(SessionTokenFilter.USER_ID) Long userId,
+            ServletWebRequest webRequest) {
         try {
-            List<Budget> budgets = budgetService.listBudgetsByUser(userId);
-
-            // Map to DTO objects for the frontend
-            List<Map<String, Object>> budgetDTOs = budgets.stream().map(budget -> {
-                Map<String, Object> dto = new java.util.HashMap<>();
-                dto.put("id", budget.getId());
-                dto.put("categoryId", budget.getCategory().getId());
-                dto.put("categoryName", budget.getCategory().getName());
-                dto.put("monthlyLimit", budget.getMonthlyLimit());
-                // For now, currentSpend will be populated on the frontend (optional
-                // enhancement: compute on backend)
-                dto.put("currentSpend", 0);
-                return dto;
-            }).collect(java.util.stream.Collectors.toList());
+            // Spend is for the current month, so the month is part of the tag
+            YearMonth month = YearMonth.now();
+            Optional<String> stamp = changeStampService.userStamp(userId);
+            if (stamp.isPresent() && ConditionalGet.notModified(webRequest, "b-" + stamp.get() + "-" + month)) {
+                return null;
+            }
+
+            List<BudgetWithSpend> budgets = budgetService.listBudgetsWithSpendByUser(userId, month);
+
+            List<BudgetResponse> budgetDTOs = new ArrayList<>(budgets.size());
+            for (BudgetWithSpend budget : budgets) {
+                budgetDTOs.add(BudgetResponse.from(budget));
+            }
 
             return ResponseEntity.ok(budgetDTOs);
         } catch (IllegalArgumentException e) {
@@ -48,71 +58,58 @@ public class BudgetController {
     }
 
     @PostMapping
-    public ResponseEntity<?> createBudget(@RequestBody Map<String, Object> request) {
+    public ResponseEntity<?> createBudget(@RequestAttribute(SessionTokenFilter.USER_ID) Long userId, @RequestBody BudgetRequest request) {
         try {
-            Long userId = getLongFromRequest(request, "userId");
-            Long categoryId = getLongFromRequest(request, "categoryId");
-            BigDecimal monthlyLimit = getBigDecimalFromRequest(request, "monthlyLimit");
-
-            if (userId == null) {
-                return ResponseEntity.badRequest().body("User ID is required");
-            }
-            if (categoryId == null) {
-                return ResponseEntity.badRequest().body("Category ID is required");
-            }
-            if (monthlyLimit == null) {
-                return ResponseEntity.badRequest().body("Monthly limit is required");
+            String missing = missingField(request);
+            if (missing != null) {
+                return ResponseEntity.badRequest().body(missing);
             }
 
-            Budget budget = budgetService.createBudget(userId, categoryId, monthlyLimit);
-            Map<String, Object> dto = new java.util.HashMap<>();
-            dto.put("id", budget.getId());
-            dto.put("categoryId", budget.getCategory().getId());
-            dto.put("categoryName", budget.getCategory().getName());
-            dto.put("monthlyLimit", budget.getMonthlyLimit());
-            dto.put("currentSpend", 0);
+            Long categoryId = request.categoryId();
+
+            Budget budget = budgetService.createBudget(userId, categoryId, request.monthlyLimit());
+            BudgetResponse dto = BudgetResponse.from(budget,
+                    budgetService.getSpendForMonth(userId, categoryId, YearMonth.now()));
             return ResponseEntity.status(HttpStatus.CREATED).body(dto);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Budget was changed by another request");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to create budget");
         }
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateBudget(@PathVariable Long id, @RequestBody Map<String, Object> request) {
+    public ResponseEntity<?> updateBudget(@PathVariable Long id, @RequestAttribute(SessionTokenFilter.USER_ID) Long userId,
+            @RequestBody BudgetRequest request) {
         try {
-            Long userId = getLongFromRequest(request, "userId");
-            Long categoryId = getLongFromRequest(request, "categoryId");
-            BigDecimal monthlyLimit = getBigDecimalFromRequest(request, "monthlyLimit");
-
-            if (userId == null) {
-                return ResponseEntity.badRequest().body("User ID is required");
-            }
-            if (categoryId == null) {
-                return ResponseEntity.badRequest().body("Category ID is required");
-            }
-            if (monthlyLimit == null) {
-                return ResponseEntity.badRequest().body("Monthly limit is required");
+            String missing = missingField(request);
+            if (missing != null) {
+                return ResponseEntity.badRequest().body(missing);
             }
 
-            Budget budget = budgetService.updateBudget(id, userId, categoryId, monthlyLimit);
-            Map<String, Object> dto = new java.util.HashMap<>();
-            dto.put("id", budget.getId());
-            dto.put("categoryId", budget.getCategory().getId());
-            dto.put("categoryName", budget.getCategory().getName());
-            dto.put("monthlyLimit", budget.getMonthlyLimit());
-            dto.put("currentSpend", 0);
+            Long categoryId = request.categoryId();
+
+            Budget budget = budgetService.updateBudget(id, userId, categoryId, request.monthlyLimit(),
+                    request.version());
+            BudgetResponse dto = BudgetResponse.from(budget,
+                    budgetService.getSpendForMonth(userId, categoryId, YearMonth.now()));
             return ResponseEntity.ok(dto);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race for the target category against another create or update
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Budget already exists for user and category");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to update budget");
         }
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteBudget(@PathVariable Long id, @RequestParam Long userId) {
+    public ResponseEntity<?> deleteBudget(@PathVariable Long id, @RequestAttribute(SessionTokenFilter.USER_ID) Long userId) {
         try {
             budgetService.deleteBudget(id, userId);
             return ResponseEntity.noContent().build();
@@ -123,38 +120,14 @@ public class BudgetController {
         }
     }
 
-    // Helper methods
-    private Long getLongFromRequest(Map<String, Object> request, String key) {
-        Object value = request.get(key);
-        if (value == null)
-            return null;
-        if (value instanceof Number) {
-            return ((Number) value).longValue();
-        }
-        if (value instanceof String) {
-            try {
-                return Long.parseLong((String) value);
-            } catch (NumberFormatException e) {
-                throw new IllegalArgumentException("Invalid " + key + " format");
-            }
+    // Helper method returning the error for the first missing required field, if any
+    private String missingField(BudgetRequest request) {
+        if (request.categoryId() == null) {
+            return "Category ID is required";
         }
-        throw new IllegalArgumentException("Invalid " + key + " type");
-    }
-
-    private BigDecimal getBigDecimalFromRequest(Map<String, Object> request, String key) {
-        Object value = request.get(key);
-        if (value == null)
-            return null;
-        if (value instanceof Number) {
-            return BigDecimal.valueOf(((Number) value).doubleValue());
-        }
-        if (value instanceof String) {
-            try {
-                return new BigDecimal((String) value);
-            } catch (NumberFormatException e) {
-                throw new IllegalArgumentException("Invalid " + key + " format");
-            }
+        if (request.monthlyLimit() == null) {
+            return "Monthly limit is required";
         }
-        throw new IllegalArgumentException("Invalid " + key + " type");
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.dto.CacheRegionStats;
+import com.finance.tracker.dto.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+public class CacheStatsController {
+
+    private final CacheManager cacheManager;
+    private final Statistics hibernateStatistics;
+
+    public CacheStatsController(CacheManager cacheManager, EntityManagerFactory entityManagerFactory) {
+        this.cacheManager = cacheManager;
+        this.hibernateStatistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getCacheStats() {
+        try {
+            List<CacheStats> stats = new ArrayList<>();
+            for (String name : cacheManager.getCacheNames()) {
+                if (cacheManager.getCache(name) instanceof CaffeineCache cache) {
+                    com.github.benmanes.caffeine.cache.stats.CacheStats counters = cache.getNativeCache().stats();
+                    stats.add(new CacheStats(name, cache.getNativeCache().estimatedSize(), counters.hitCount(),
+                            counters.missCount(), counters.hitRate(), counters.evictionCount()));
+                }
+            }
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to retrieve cache statistics");
+        }
+    }
+
+    // Entity regions; needs hibernate.generate_statistics
+    @GetMapping("/second-level")
+    public ResponseEntity<?> getSecondLevelCacheStats() {
+        try {
+            List<CacheRegionStats> stats = new ArrayList<>();
+            for (String region : hibernateStatistics.getSecondLevelCacheRegionNames()) {
+                CacheRegionStatistics counters = hibernateStatistics.getDomainDataRegionStatistics(region);
+                stats.add(CacheRegionStats.of(region, counters.getHitCount(), counters.getMissCount(),
+                        counters.getPutCount()));
+            }
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Failed to retrieve second-level cache statistics");
+        }
+    }
+}
\ No newline at end of file
@@ -1,28 +1,34 @@
 package com.finance.tracker.controller;
 
+import com.finance.tracker.dto.CategoryRequest;
 import com.finance.tracker.model.Category;
 import com.finance.tracker.service.CategoryService;
+import com.finance.tracker.service.ChangeStampService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/categories")
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ChangeStampService changeStampService;
 
-    public CategoryController(CategoryService categoryService) {
+    public CategoryController(CategoryService categoryService, ChangeStampService changeStampService) {
         this.categoryService = categoryService;
+        this.changeStampService = changeStampService;
     }
 
     @GetMapping
-    public ResponseEntity<List<Category>> getAllCategories() {
+    public ResponseEntity<List<Category>> getAllCategories(ServletWebRequest webRequest) {
         try {
+            if (ConditionalGet.notModified(webRequest, "c-" + changeStampService.categoriesStamp())) {
+                return null;
+            }
             List<Category> categories = categoryService.listAllCategories();
             return ResponseEntity.ok(categories);
         } catch (Exception e) {
@@ -31,10 +37,10 @@ public class CategoryController {
     }
 
     @PostMapping
-    public ResponseEntity<?> createCategory(@RequestBody Map<String, String> request) {
+    public ResponseEntity<?> createCategory(@RequestBody CategoryRequest request) {
         try {
-            String name = request.get("name");
-            String typeStr = request.get("type");
+            String name = request.name();
+            String typeStr = request.type();
 
             if (name == null || name.trim().isEmpty()) {
                 return ResponseEntity.badRequest().body("Category name is required");
@@ -60,10 +66,10 @@ public class CategoryController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateCategory(@PathVariable Long id, @RequestBody Map<String, String> request) {
+    public ResponseEntity<?> updateCategory(@PathVariable Long id, @RequestBody CategoryRequest request) {
         try {
-            String name = request.get("name");
-            String typeStr = request.get("type");
+            String name = request.name();
+            String typeStr = request.type();
 
             if (name == null || name.trim().isEmpty()) {
                 return ResponseEntity.badRequest().body("Category name is required");
@@ -0,0 +1,26 @@
+package com.finance.tracker.controller;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+// Listing responses are private to the caller and must be revalidated on every use, so the
+// browser keeps them and sends If-None-Match on the next fetch. A matching tag is answered with
+// 304 before the listing is queried or serialized; otherwise the ETag header is already set.
+// Tags are weak: they name a data version rather than exact bytes, and Tomcat only compresses
+// responses whose tag is weak.
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    static boolean notModified(ServletWebRequest request, String etag) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+            // The URL is shared by every user; the bearer token decides whose listing it is
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        }
+        return request.checkNotModified("W/\"" + etag + "\"");
+    }
+}
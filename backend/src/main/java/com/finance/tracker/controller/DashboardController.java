@@ -0,0 +1,59 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.config.SessionTokenFilter;
+import com.finance.tracker.dto.DashboardSummary;
+import com.finance.tracker.service.ChangeStampService;
+import com.finance.tracker.service.DashboardService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    static final int DEFAULT_TREND_MONTHS = 6;
+    static final int MAX_TREND_MONTHS = 24;
+
+    private final DashboardService dashboardService;
+    private final ChangeStampService changeStampService;
+
+    public DashboardController(DashboardService dashboardService, ChangeStampService changeStampService) {
+        this.dashboardService = dashboardService;
+        this.changeStampService = changeStampService;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getDashboard(@RequestAttribute(SessionTokenFilter.USER_ID) Long userId,
+            @RequestParam(required = false) String month,
+            @RequestParam(defaultValue = "" + DEFAULT_TREND_MONTHS) int months,
+            ServletWebRequest webRequest) {
+        try {
+            YearMonth summaryMonth;
+            try {
+                summaryMonth = month != null ? YearMonth.parse(month) : YearMonth.now();
+            } catch (DateTimeParseException e) {
+                return ResponseEntity.badRequest().body("Invalid month format. Use YYYY-MM");
+            }
+            int trendMonths = Math.min(Math.max(months, 1), MAX_TREND_MONTHS);
+
+            Optional<String> stamp = changeStampService.userStamp(userId);
+            if (stamp.isPresent() && ConditionalGet.notModified(webRequest,
+                    "d-" + stamp.get() + "-" + summaryMonth + "-" + trendMonths)) {
+                return null;
+            }
+
+            DashboardSummary summary = dashboardService.getSummary(userId, summaryMonth, trendMonths);
+            return ResponseEntity.ok(summary);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to retrieve dashboard");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.config.ConcurrencyLimitFilter;
+import com.finance.tracker.dto.PoolStats;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/pool")
+public class PoolStatsController {
+
+    private final HikariDataSource dataSource;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    private final boolean virtualThreads;
+
+    public PoolStatsController(HikariDataSource dataSource, ConcurrencyLimitFilter concurrencyLimitFilter,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.dataSource = dataSource;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
+        this.virtualThreads = virtualThreads && Runtime.version().feature() >= 21;
+    }
+
+    @GetMapping
+    public ResponseEntity<?> getPoolStats() {
+        try {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return ResponseEntity.ok(new PoolStats(
+                    pool.getActiveConnections(),
+                    pool.getIdleConnections(),
+                    pool.getTotalConnections(),
+                    pool.getThreadsAwaitingConnection(),
+                    dataSource.getMaximumPoolSize(),
+                    concurrencyLimitFilter.getInFlight(),
+                    concurrencyLimitFilter.getMaxInFlight(),
+                    concurrencyLimitFilter.getRejectedCount(),
+                    virtualThreads));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to retrieve pool statistics");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.config.SessionTokenFilter;
+import com.finance.tracker.dto.Report;
+import com.finance.tracker.service.ReportService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+
+    private final ReportService reportService;
+
+    public ReportController(ReportService reportService) {
+        this.reportService = reportService;
+    }
+
+    // Defaults to the last twelve months, month by month
+    @GetMapping
+    public ResponseEntity<?> getReport(@RequestAttribute(SessionTokenFilter.USER_ID) Long userId,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "month") String granularity) {
+        try {
+            LocalDate end;
+            LocalDate start;
+            try {
+                end = to != null ? LocalDate.parse(to) : LocalDate.now();
+                start = from != null ? LocalDate.parse(from) : end.minusMonths(11).withDayOfMonth(1);
+            } catch (DateTimeParseException e) {
+                return ResponseEntity.badRequest().body("Invalid date format. Use YYYY-MM-DD");
+            }
+
+            ReportService.Granularity reportGranularity;
+            try {
+                reportGranularity = ReportService.Granularity.valueOf(granularity.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body("Invalid granularity. Must be month or year");
+            }
+
+            Report report = reportService.getReport(userId, start, end, reportGranularity);
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to build report");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.finance.tracker.controller;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDate;
+
+// Turns request bodies that fail to bind onto the typed request records into the same
+// plain-text 400 responses the controllers return for their own validation errors
+@RestControllerAdvice
+public class RequestBodyExceptionHandler {
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<String> handleUnreadableBody(HttpMessageNotReadableException e) {
+        if (e.getCause() instanceof InvalidFormatException invalid && !invalid.getPath().isEmpty()) {
+            JsonMappingException.Reference field = invalid.getPath().get(invalid.getPath().size() - 1);
+            if (LocalDate.class.equals(invalid.getTargetType())) {
+                return ResponseEntity.badRequest()
+                        .body("Invalid " + field.getFieldName() + " format. Use YYYY-MM-DD");
+            }
+            return ResponseEntity.badRequest().body("Invalid " + field.getFieldName() + " format");
+        }
+        return ResponseEntity.badRequest().body("Invalid request body");
+    }
+}
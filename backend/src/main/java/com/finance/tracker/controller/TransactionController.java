@@ -1,39 +1,88 @@
 package com.finance.tracker.controller;
 
+import com.finance.tracker.config.SessionTokenFilter;
+import com.finance.tracker.dto.ImportResult;
+import com.finance.tracker.dto.TransactionChanges;
+import com.finance.tracker.dto.TransactionRequest;
+import com.finance.tracker.dto.TransactionResponse;
 import com.finance.tracker.model.Transaction;
-import com.finance.tracker.model.Category;
+import com.finance.tracker.service.ChangeStampService;
+import com.finance.tracker.service.TransactionImportService;
+import com.finance.tracker.service.TransactionSearchService;
 import com.finance.tracker.service.TransactionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/transactions")
 public class TransactionController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    // Delta sync starting point for a client that has just loaded the listing
+    static final String WATERMARK_HEADER = "X-Sync-Watermark";
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 500;
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final byte[] NEWLINE = { '\n' };
+
     private final TransactionService transactionService;
+    private final TransactionImportService transactionImportService;
+    private final TransactionSearchService transactionSearchService;
+    private final ChangeStampService changeStampService;
+    private final ObjectWriter rowWriter;
 
-    public TransactionController(TransactionService transactionService) {
+    public TransactionController(TransactionService transactionService,
+            TransactionImportService transactionImportService,
+            TransactionSearchService transactionSearchService,
+            ChangeStampService changeStampService,
+            ObjectMapper objectMapper) {
         this.transactionService = transactionService;
+        this.transactionImportService = transactionImportService;
+        this.transactionSearchService = transactionSearchService;
+        this.changeStampService = changeStampService;
+        this.rowWriter = objectMapper.writerFor(TransactionResponse.class);
     }
 
     @GetMapping
-    public ResponseEntity<?> getTransactions(@RequestParam Long userId) {
+    public ResponseEntity<?> getTransactions(@RequestAttribute(SessionTokenFilter.USER_ID) Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+            ServletWebRequest webRequest) {
         try {
-            List<Transaction> transactions = transactionService.listTransactionsByUser(userId);
-            // Transform transactions to include type field based on category
-            List<Map<String, Object>> transactionDTOs = transactions.stream()
-                    .map(this::mapTransactionToDTO)
-                    .collect(Collectors.toList());
-            return ResponseEntity.ok(transactionDTOs);
+            // The stamp is read before the page, so a write landing in between can only make
+            // the tag and watermark look stale, never make stale rows look current
+            Optional<Long> dataVersion = changeStampService.dataVersion(userId);
+            if (dataVersion.isPresent() && ConditionalGet.notModified(webRequest,
+                    "t-" + changeStampService.userStamp(userId, dataVersion.get()))) {
+                return null;
+            }
+
+            int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+            Cursor before = Cursor.parse(cursor);
+            List<Transaction> transactions = transactionService.listTransactionsPage(userId, before.date(),
+                    before.id(), pageSize);
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            dataVersion.ifPresent(version -> response.header(WATERMARK_HEADER, version.toString()));
+            return page(response, transactions, pageSize);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
@@ -41,31 +90,73 @@ public class TransactionController {
         }
     }
 
-    @PostMapping
-    public ResponseEntity<?> createTransaction(@RequestBody Map<String, Object> request) {
+    // Notes containing every word of q, each word matched as a prefix, newest first and pageable
+    // like the listing. Category and date range narrow the matches further.
+    @GetMapping("/search")
+    public ResponseEntity<?> searchTransactions(@RequestAttribute(SessionTokenFilter.USER_ID) Long userId,
+            @RequestParam String q,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
         try {
-            Long userId = getLongFromRequest(request, "userId");
-            Long categoryId = getLongFromRequest(request, "categoryId");
-            BigDecimal amount = getBigDecimalFromRequest(request, "amount");
-            LocalDate date = getDateFromRequest(request, "date");
-            String note = (String) request.get("note");
-
-            if (userId == null) {
-                return ResponseEntity.badRequest().body("User ID is required");
-            }
-            if (categoryId == null) {
-                return ResponseEntity.badRequest().body("Category ID is required");
+            int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+            Cursor before = Cursor.parse(cursor);
+            List<Transaction> transactions = transactionSearchService.search(userId, q, categoryId,
+                    parseDate(from), parseDate(to), before.date(), before.id(), pageSize);
+            return page(ResponseEntity.ok(), transactions, pageSize);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to search transactions");
+        }
+    }
+
+    // Delta sync: what was created, updated or deleted after the client's watermark. A client
+    // without one starts from the X-Sync-Watermark of the listing, or from 0 for everything.
+    @GetMapping("/changes")
+    public ResponseEntity<?> getChanges(@RequestAttribute(SessionTokenFilter.USER_ID) Long userId,
+            @RequestParam(defaultValue = "0") long since) {
+        try {
+            if (since < 0) {
+                return ResponseEntity.badRequest().body("Watermark cannot be negative");
             }
-            if (amount == null) {
-                return ResponseEntity.badRequest().body("Amount is required");
+            TransactionChanges changes = transactionService.listChangesSince(userId, since);
+            return ResponseEntity.ok(changes);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to retrieve changes");
+        }
+    }
+
+    // Streams the full history as newline-delimited JSON, one row at a time
+    @GetMapping(produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamTransactions(@RequestAttribute(SessionTokenFilter.USER_ID) Long userId) {
+        StreamingResponseBody body = out -> transactionService.streamTransactionsByUser(userId, transaction -> {
+            try {
+                out.write(rowWriter.writeValueAsBytes(TransactionResponse.from(transaction)));
+                out.write(NEWLINE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-            if (date == null) {
-                return ResponseEntity.badRequest().body("Date is required");
+        });
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    @PostMapping
+    public ResponseEntity<?> createTransaction(@RequestAttribute(SessionTokenFilter.USER_ID) Long userId,
+            @RequestBody TransactionRequest request) {
+        try {
+            String missing = missingField(request);
+            if (missing != null) {
+                return ResponseEntity.badRequest().body(missing);
             }
 
-            Transaction transaction = transactionService.createTransaction(userId, categoryId, amount, date, note);
-            Map<String, Object> transactionDTO = mapTransactionToDTO(transaction);
-            return ResponseEntity.status(HttpStatus.CREATED).body(transactionDTO);
+            Transaction transaction = transactionService.createTransaction(userId, request.categoryId(),
+                    request.amount(), request.date(), request.note());
+            return ResponseEntity.status(HttpStatus.CREATED).body(TransactionResponse.from(transaction));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
@@ -74,115 +165,123 @@ public class TransactionController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateTransaction(@PathVariable Long id, @RequestBody Map<String, Object> request) {
+    public ResponseEntity<?> updateTransaction(@PathVariable Long id, @RequestAttribute(SessionTokenFilter.USER_ID) Long userId,
+            @RequestBody TransactionRequest request) {
         try {
-            Long userId = getLongFromRequest(request, "userId");
-            Long categoryId = getLongFromRequest(request, "categoryId");
-            BigDecimal amount = getBigDecimalFromRequest(request, "amount");
-            LocalDate date = getDateFromRequest(request, "date");
-            String note = (String) request.get("note");
-
-            if (userId == null) {
-                return ResponseEntity.badRequest().body("User ID is required");
-            }
-            if (categoryId == null) {
-                return ResponseEntity.badRequest().body("Category ID is required");
+            String missing = missingField(request);
+            if (missing != null) {
+                return ResponseEntity.badRequest().body(missing);
             }
-            if (amount == null) {
-                return ResponseEntity.badRequest().body("Amount is required");
+
+            Transaction transaction = transactionService.updateTransaction(id, userId,
+                    request.categoryId(), request.amount(), request.date(), request.note(), request.version());
+            return ResponseEntity.ok(TransactionResponse.from(transaction));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to update transaction");
+        }
+    }
+
+    // Bulk import of a CSV or OFX bank statement. OFX rows carry no category, so debits and
+    // credits are filed under expenseCategoryId and incomeCategoryId respectively.
+    @PostMapping(path = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importTransactions(@RequestAttribute(SessionTokenFilter.USER_ID) Long userId,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) Long expenseCategoryId,
+            @RequestParam(required = false) Long incomeCategoryId) {
+        try {
+            String fileFormat = format;
+            if (fileFormat == null) {
+                String filename = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase() : "";
+                fileFormat = filename.endsWith(".ofx") || filename.endsWith(".qfx") ? "ofx" : "csv";
             }
-            if (date == null) {
-                return ResponseEntity.badRequest().body("Date is required");
+            if (!fileFormat.equalsIgnoreCase("csv") && !fileFormat.equalsIgnoreCase("ofx")) {
+                return ResponseEntity.badRequest().body("Invalid format. Must be csv or ofx");
             }
 
-            Transaction transaction = transactionService.updateTransaction(id, userId, categoryId, amount, date, note);
-            Map<String, Object> transactionDTO = mapTransactionToDTO(transaction);
-            return ResponseEntity.ok(transactionDTO);
+            try (InputStream input = file.getInputStream()) {
+                ImportResult result = transactionImportService.importTransactions(userId, input, fileFormat,
+                        expenseCategoryId, incomeCategoryId);
+                return ResponseEntity.ok(result);
+            }
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to update transaction");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to import transactions");
         }
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteTransaction(@PathVariable Long id, @RequestParam Long userId) {
+    public ResponseEntity<?> deleteTransaction(@PathVariable Long id, @RequestAttribute(SessionTokenFilter.USER_ID) Long userId) {
         try {
             transactionService.deleteTransaction(id, userId);
             return ResponseEntity.noContent().build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Transaction was changed by another request");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Failed to delete transaction");
         }
     }
 
-    // Helper method to map Transaction entity to DTO with type field
-    private Map<String, Object> mapTransactionToDTO(Transaction transaction) {
-        Map<String, Object> dto = new HashMap<>();
-        dto.put("id", transaction.getId());
-        dto.put("amount", transaction.getAmount());
-        dto.put("date", transaction.getDate());
-        dto.put("note", transaction.getNote());
-        dto.put("categoryId", transaction.getCategory().getId());
-        dto.put("category", transaction.getCategory().getName());
-
-        // Add type field based on category type
-        String type = transaction.getCategory().getType() == Category.CategoryType.INCOME ? "income" : "expense";
-        dto.put("type", type);
-
-        // Add description field (using note or default)
-        dto.put("description", transaction.getNote() != null ? transaction.getNote() : "Transaction");
-
-        return dto;
+    // Helper method writing a page of rows, with the cursor of the next one when it is full
+    private ResponseEntity<List<TransactionResponse>> page(ResponseEntity.BodyBuilder response,
+            List<Transaction> transactions, int pageSize) {
+        List<TransactionResponse> transactionDTOs = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            transactionDTOs.add(TransactionResponse.from(transaction));
+        }
+        if (transactions.size() == pageSize) {
+            Transaction last = transactions.get(transactions.size() - 1);
+            response.header(NEXT_CURSOR_HEADER, last.getDate() + ":" + last.getId());
+        }
+        return response.body(transactionDTOs);
     }
 
-    // Helper methods
-    private Long getLongFromRequest(Map<String, Object> request, String key) {
-        Object value = request.get(key);
-        if (value == null)
+    private LocalDate parseDate(String value) {
+        if (value == null || value.isEmpty()) {
             return null;
-        if (value instanceof Number) {
-            return ((Number) value).longValue();
         }
-        if (value instanceof String) {
-            try {
-                return Long.parseLong((String) value);
-            } catch (NumberFormatException e) {
-                throw new IllegalArgumentException("Invalid " + key + " format");
-            }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date format. Use YYYY-MM-DD");
         }
-        throw new IllegalArgumentException("Invalid " + key + " type");
     }
 
-    private BigDecimal getBigDecimalFromRequest(Map<String, Object> request, String key) {
-        Object value = request.get(key);
-        if (value == null)
-            return null;
-        if (value instanceof Number) {
-            return BigDecimal.valueOf(((Number) value).doubleValue());
-        }
-        if (value instanceof String) {
+    // Cursor format: <date>:<id> of the last row of the previous page
+    private record Cursor(LocalDate date, Long id) {
+
+        static Cursor parse(String cursor) {
+            if (cursor == null || cursor.isEmpty()) {
+                return new Cursor(null, null);
+            }
+            int separator = cursor.indexOf(':');
             try {
-                return new BigDecimal((String) value);
-            } catch (NumberFormatException e) {
-                throw new IllegalArgumentException("Invalid " + key + " format");
+                return new Cursor(LocalDate.parse(cursor.substring(0, separator)),
+                        Long.parseLong(cursor.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor format");
             }
         }
-        throw new IllegalArgumentException("Invalid " + key + " type");
     }
 
-    private LocalDate getDateFromRequest(Map<String, Object> request, String key) {
-        Object value = request.get(key);
-        if (value == null)
-            return null;
-        if (value instanceof String) {
-            try {
-                return LocalDate.parse((String) value);
-            } catch (DateTimeParseException e) {
-                throw new IllegalArgumentException("Invalid " + key + " format. Use YYYY-MM-DD");
-            }
+    // Helper method returning the error for the first missing required field, if any
+    private String missingField(TransactionRequest request) {
+        if (request.categoryId() == null) {
+            return "Category ID is required";
+        }
+        if (request.amount() == null) {
+            return "Amount is required";
+        }
+        if (request.date() == null) {
+            return "Date is required";
         }
-        throw new IllegalArgumentException("Invalid " + key + " type");
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.finance.tracker.dto;
+
+import java.math.BigDecimal;
+
+// Body of POST and PUT /api/budgets; the owner comes from the session token. version is
+// optional and, on PUT, must match the stored row
+public record BudgetRequest(Long categoryId, BigDecimal monthlyLimit, Long version) {
+}
@@ -0,0 +1,24 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.Budget;
+
+import java.math.BigDecimal;
+
+// Budget as the frontend sees it, with this month's spend in its category
+public record BudgetResponse(Long id, Long categoryId, String categoryName, BigDecimal monthlyLimit,
+        BigDecimal currentSpend, Long version) {
+
+    public static BudgetResponse from(Budget budget, BigDecimal currentSpend) {
+        return new BudgetResponse(
+                budget.getId(),
+                budget.getCategory().getId(),
+                budget.getCategory().getName(),
+                budget.getMonthlyLimit(),
+                currentSpend,
+                budget.getVersion());
+    }
+
+    public static BudgetResponse from(BudgetWithSpend budgetWithSpend) {
+        return from(budgetWithSpend.budget(), budgetWithSpend.currentSpend());
+    }
+}
@@ -0,0 +1,9 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.Budget;
+
+import java.math.BigDecimal;
+
+// A budget together with what has been spent in its category this month
+public record BudgetWithSpend(Budget budget, BigDecimal currentSpend) {
+}
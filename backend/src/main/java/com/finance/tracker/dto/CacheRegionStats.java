@@ -0,0 +1,10 @@
+package com.finance.tracker.dto;
+
+// Hibernate second-level cache counters for one region since startup
+public record CacheRegionStats(String region, long hits, long misses, long puts, double hitRate) {
+
+    public static CacheRegionStats of(String region, long hits, long misses, long puts) {
+        long lookups = hits + misses;
+        return new CacheRegionStats(region, hits, misses, puts, lookups == 0 ? 0.0 : (double) hits / lookups);
+    }
+}
@@ -0,0 +1,5 @@
+package com.finance.tracker.dto;
+
+// Counters for one in-process cache since startup
+public record CacheStats(String name, long size, long hits, long misses, double hitRate, long evictions) {
+}
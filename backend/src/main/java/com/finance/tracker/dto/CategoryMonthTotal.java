@@ -0,0 +1,10 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.Category;
+
+import java.math.BigDecimal;
+
+// One GROUP BY (category, year, month) row of transaction amounts
+public record CategoryMonthTotal(Long categoryId, String categoryName, Category.CategoryType type,
+        Integer year, Integer month, BigDecimal total) {
+}
@@ -0,0 +1,5 @@
+package com.finance.tracker.dto;
+
+// Body of POST and PUT /api/categories; type is validated by the controller
+public record CategoryRequest(String name, String type) {
+}
@@ -0,0 +1,5 @@
+package com.finance.tracker.dto;
+
+// Body of POST /api/auth/login and /api/auth/register
+public record CredentialsRequest(String username, String password) {
+}
@@ -0,0 +1,24 @@
+package com.finance.tracker.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Precomputed dashboard payload so the client never needs the full ledger
+public record DashboardSummary(
+        BigDecimal totalIncome,
+        BigDecimal totalExpense,
+        BigDecimal netBalance,
+        String month,
+        BigDecimal monthlyIncome,
+        BigDecimal monthlyExpense,
+        BigDecimal monthlyNet,
+        List<CategorySummary> categories,
+        List<MonthSummary> trend) {
+
+    public record CategorySummary(Long categoryId, String name, BigDecimal income, BigDecimal expense,
+            BigDecimal net) {
+    }
+
+    public record MonthSummary(String month, BigDecimal income, BigDecimal expense, BigDecimal net) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.finance.tracker.dto;
+
+import java.util.List;
+
+// Outcome of a bulk import; errors lists at most the first rejected rows, failed counts all of them
+public record ImportResult(int imported, int failed, List<RowError> errors) {
+
+    public record RowError(int line, String message) {
+    }
+}
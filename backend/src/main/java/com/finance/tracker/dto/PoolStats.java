@@ -0,0 +1,7 @@
+package com.finance.tracker.dto;
+
+// Snapshot of the JDBC pool and the request limiter in front of it
+public record PoolStats(int activeConnections, int idleConnections, int totalConnections,
+        int threadsAwaitingConnection, int maxPoolSize, int requestsInFlight, int maxRequestsInFlight,
+        long requestsRejected, boolean virtualThreads) {
+}
@@ -0,0 +1,29 @@
+package com.finance.tracker.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Income/expense statement for a date range. periods holds one row per month or year; each
+// category carries its totals in the same period order, which makes up the category x period matrix.
+// Rates and goal progress are fractions (0.25 = 25%) and null when there is nothing to divide by.
+public record Report(
+        String from,
+        String to,
+        String granularity,
+        BigDecimal income,
+        BigDecimal expense,
+        BigDecimal net,
+        BigDecimal savingsRate,
+        BigDecimal incomeGoal,
+        BigDecimal incomeGoalProgress,
+        List<PeriodTotal> periods,
+        List<CategoryTotal> categories) {
+
+    public record PeriodTotal(String period, BigDecimal income, BigDecimal expense, BigDecimal net,
+            BigDecimal savingsRate, BigDecimal incomeGoal, BigDecimal incomeGoalProgress) {
+    }
+
+    public record CategoryTotal(Long categoryId, String name, String type, BigDecimal total,
+            List<BigDecimal> periodTotals) {
+    }
+}
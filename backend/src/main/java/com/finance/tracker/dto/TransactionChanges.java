@@ -0,0 +1,8 @@
+package com.finance.tracker.dto;
+
+import java.util.List;
+
+// Delta sync reply: rows created or updated after the client's watermark, ids deleted since then,
+// and the watermark to send next time
+public record TransactionChanges(long watermark, List<TransactionResponse> changed, List<Long> deleted) {
+}
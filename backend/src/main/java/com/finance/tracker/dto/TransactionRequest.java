@@ -0,0 +1,9 @@
+package com.finance.tracker.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Body of POST and PUT /api/transactions; the owner comes from the session token. version is
+// optional and, on PUT, must match the stored row
+public record TransactionRequest(Long categoryId, BigDecimal amount, LocalDate date, String note, Long version) {
+}
@@ -0,0 +1,26 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Transaction as the frontend sees it, with type and description derived from the category and note
+public record TransactionResponse(Long id, BigDecimal amount, LocalDate date, String note, Long categoryId,
+        String category, String type, String description, Long version) {
+
+    public static TransactionResponse from(Transaction transaction) {
+        Category category = transaction.getCategory();
+        return new TransactionResponse(
+                transaction.getId(),
+                transaction.getAmount(),
+                transaction.getDate(),
+                transaction.getNote(),
+                category.getId(),
+                category.getName(),
+                category.getType() == Category.CategoryType.INCOME ? "income" : "expense",
+                transaction.getNote() != null ? transaction.getNote() : "Transaction",
+                transaction.getVersion());
+    }
+}
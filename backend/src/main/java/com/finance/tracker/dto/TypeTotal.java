@@ -0,0 +1,9 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.Category;
+
+import java.math.BigDecimal;
+
+// One GROUP BY category type row of transaction amounts
+public record TypeTotal(Category.CategoryType type, BigDecimal total) {
+}
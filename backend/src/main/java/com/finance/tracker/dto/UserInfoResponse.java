@@ -0,0 +1,21 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.User;
+
+import java.math.BigDecimal;
+
+// Session info returned by login and registration, with defaults filled in. token is sent back
+// as "Authorization: Bearer <token>" on every other /api request.
+public record UserInfoResponse(Long userId, String username, String displayName, String preferredCurrency,
+        BigDecimal monthlyIncomeGoal, String token) {
+
+    public static UserInfoResponse from(User user, String token) {
+        return new UserInfoResponse(
+                user.getId(),
+                user.getUsername(),
+                user.getDisplayName() != null ? user.getDisplayName() : user.getUsername(),
+                user.getPreferredCurrency() != null ? user.getPreferredCurrency() : "USD",
+                user.getMonthlyIncomeGoal() != null ? user.getMonthlyIncomeGoal() : BigDecimal.ZERO,
+                token);
+    }
+}
@@ -0,0 +1,7 @@
+package com.finance.tracker.dto;
+
+import java.math.BigDecimal;
+
+// Body of PUT /api/users/{userId}/profile; null fields are left unchanged
+public record UserProfileRequest(String displayName, String preferredCurrency, BigDecimal monthlyIncomeGoal) {
+}
@@ -0,0 +1,18 @@
+package com.finance.tracker.dto;
+
+import com.finance.tracker.model.User;
+
+import java.math.BigDecimal;
+
+public record UserProfileResponse(Long id, String username, String displayName, String preferredCurrency,
+        BigDecimal monthlyIncomeGoal) {
+
+    public static UserProfileResponse from(User user) {
+        return new UserProfileResponse(
+                user.getId(),
+                user.getUsername(),
+                user.getDisplayName(),
+                user.getPreferredCurrency(),
+                user.getMonthlyIncomeGoal());
+    }
+}
@@ -0,0 +1,154 @@
+package com.finance.tracker.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Reads CSV with a header row naming the columns date, amount, category (or categoryId) and
+// an optional note (or description). Quoted fields may contain commas, quotes and newlines.
+public class CsvTransactionReader implements TransactionRowReader {
+
+    private final Reader reader;
+    private final int dateColumn;
+    private final int amountColumn;
+    private final int categoryColumn;
+    private final int noteColumn;
+
+    private int currentLine = 1;
+    private int recordLine;
+    private int pushback = -2;
+
+    public CsvTransactionReader(Reader reader) throws IOException {
+        this.reader = reader;
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        int date = -1, amount = -1, category = -1, note = -1;
+        for (int i = 0; i < header.size(); i++) {
+            switch (header.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "date" -> date = i;
+                case "amount" -> amount = i;
+                case "category", "categoryid", "category_id" -> category = i;
+                case "note", "description", "memo" -> note = i;
+                default -> {
+                }
+            }
+        }
+        if (date < 0 || amount < 0 || category < 0) {
+            throw new IllegalArgumentException("CSV header must include date, amount and category columns");
+        }
+        this.dateColumn = date;
+        this.amountColumn = amount;
+        this.categoryColumn = category;
+        this.noteColumn = note;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+
+        LocalDate date;
+        BigDecimal amount;
+        try {
+            date = LocalDate.parse(field(record, dateColumn));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date format. Use YYYY-MM-DD");
+        }
+        try {
+            amount = new BigDecimal(field(record, amountColumn));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid amount format");
+        }
+        String category = field(record, categoryColumn);
+        if (category.isEmpty()) {
+            throw new IllegalArgumentException("Category is required");
+        }
+        String note = noteColumn >= 0 ? field(record, noteColumn) : "";
+        return new ImportRow(recordLine, date, amount, category, note.isEmpty() ? null : note);
+    }
+
+    @Override
+    public int line() {
+        return recordLine;
+    }
+
+    private String field(List<String> record, int column) {
+        return column < record.size() ? record.get(column).trim() : "";
+    }
+
+    // Reads one logical record, or null at end of input
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = currentLine;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        // Bare carriage return ends the line on its own
+                        currentLine++;
+                        pushback = next;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushback != -2) {
+            c = pushback;
+            pushback = -2;
+        } else {
+            c = reader.read();
+        }
+        if (c == '\n') {
+            currentLine++;
+        }
+        return c;
+    }
+}
@@ -0,0 +1,9 @@
+package com.finance.tracker.importer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// One parsed statement line. Category is the raw id or name from the file, or null when the
+// format carries none and the amount's sign decides between income and expense.
+public record ImportRow(int line, LocalDate date, BigDecimal amount, String category, String note) {
+}
@@ -0,0 +1,127 @@
+package com.finance.tracker.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Locale;
+
+// Reads <STMTTRN> entries from OFX 1.x (SGML, unclosed leaf tags) or OFX 2.x (XML) statements.
+// Amounts keep their sign; rows carry no category so the importer picks one by direction.
+public class OfxTransactionReader implements TransactionRowReader {
+
+    private final Reader reader;
+
+    private int currentLine = 1;
+    private int recordLine;
+    private int pushback = -2;
+
+    public OfxTransactionReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String tag;
+        do {
+            tag = nextTag();
+            if (tag == null) {
+                return null;
+            }
+        } while (!tag.equals("STMTTRN"));
+        recordLine = currentLine;
+
+        String posted = null;
+        String amount = null;
+        String name = null;
+        String memo = null;
+        while ((tag = nextTag()) != null && !tag.equals("/STMTTRN")) {
+            switch (tag) {
+                case "DTPOSTED" -> posted = text();
+                case "TRNAMT" -> amount = text();
+                case "NAME" -> name = text();
+                case "MEMO" -> memo = text();
+                default -> {
+                }
+            }
+        }
+
+        if (posted == null || posted.length() < 8) {
+            throw new IllegalArgumentException("Missing or invalid DTPOSTED");
+        }
+        LocalDate date;
+        try {
+            date = LocalDate.of(Integer.parseInt(posted.substring(0, 4)), Integer.parseInt(posted.substring(4, 6)),
+                    Integer.parseInt(posted.substring(6, 8)));
+        } catch (NumberFormatException | DateTimeException e) {
+            throw new IllegalArgumentException("Missing or invalid DTPOSTED");
+        }
+        BigDecimal value;
+        try {
+            value = new BigDecimal(amount == null ? "" : amount.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Missing or invalid TRNAMT");
+        }
+
+        String note = name != null && !name.isEmpty() ? name : memo;
+        if (name != null && memo != null && !memo.isEmpty() && !memo.equals(name)) {
+            note = name + " - " + memo;
+        }
+        return new ImportRow(recordLine, date, value, null, note);
+    }
+
+    @Override
+    public int line() {
+        return recordLine;
+    }
+
+    // Skips to the next tag and returns its upper-cased name, including a leading '/' for
+    // closing tags, or null at end of input
+    private String nextTag() throws IOException {
+        int c;
+        while ((c = read()) != -1 && c != '<') {
+            // skip text between tags
+        }
+        if (c == -1) {
+            return null;
+        }
+        StringBuilder tag = new StringBuilder();
+        while ((c = read()) != -1 && c != '>') {
+            tag.append((char) c);
+        }
+        return tag.toString().trim().toUpperCase(Locale.ROOT);
+    }
+
+    // Text content up to the next tag, with the common character entities decoded
+    private String text() throws IOException {
+        StringBuilder text = new StringBuilder();
+        int c;
+        while ((c = read()) != -1 && c != '<') {
+            text.append((char) c);
+        }
+        if (c == '<') {
+            pushback = c;
+        }
+        return text.toString().trim()
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&amp;", "&");
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushback != -2) {
+            c = pushback;
+            pushback = -2;
+            return c;
+        }
+        c = reader.read();
+        if (c == '\n') {
+            currentLine++;
+        }
+        return c;
+    }
+}
@@ -0,0 +1,14 @@
+package com.finance.tracker.importer;
+
+import java.io.IOException;
+
+// Pull-style reader over an uploaded statement so rows are parsed one at a time
+public interface TransactionRowReader {
+
+    // Returns the next row or null at end of input. A malformed row is consumed and reported by
+    // throwing IllegalArgumentException; the caller may keep reading afterwards.
+    ImportRow next() throws IOException;
+
+    // Line on which the most recently read row started
+    int line();
+}
@@ -1,14 +1,22 @@
 package com.finance.tracker.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "budgets")
+@Table(name = "budgets", uniqueConstraints = @UniqueConstraint(name = "uk_budgets_user_category",
+        columnNames = { "user_id", "category_id" }))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Budget {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "budgets_id")
+    @GenericGenerator(name = "budgets_id", type = PooledIdGenerator.class,
+            parameters = @Parameter(name = "sequence_name", value = "budgets_seq"))
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -22,6 +30,11 @@ public class Budget {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal monthlyLimit;
 
+    // Bumped on every update; a stale write fails instead of overwriting a concurrent one
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Constructors
     public Budget() {
     }
@@ -64,4 +77,8 @@ public class Budget {
     public void setMonthlyLimit(BigDecimal monthlyLimit) {
         this.monthlyLimit = monthlyLimit;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
\ No newline at end of file
@@ -1,13 +1,20 @@
 package com.finance.tracker.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 @Entity
 @Table(name = "categories")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "categories_id")
+    @GenericGenerator(name = "categories_id", type = PooledIdGenerator.class,
+            parameters = @Parameter(name = "sequence_name", value = "categories_seq"))
     private Long id;
 
     @Column(nullable = false)
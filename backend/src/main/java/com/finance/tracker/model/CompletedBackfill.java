@@ -0,0 +1,27 @@
+package com.finance.tracker.model;
+
+import jakarta.persistence.*;
+
+// A one-off data backfill that has run to completion. Its presence, not a row count of the
+// backfilled table, tells startup the work is done.
+@Entity
+@Table(name = "completed_backfills")
+public class CompletedBackfill {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    // Constructors
+    public CompletedBackfill() {
+    }
+
+    public CompletedBackfill(String name) {
+        this.name = name;
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+}
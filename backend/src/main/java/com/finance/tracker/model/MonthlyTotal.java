@@ -0,0 +1,108 @@
+package com.finance.tracker.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+// Running sum of transaction amounts per user, category and calendar month.
+// Maintained by TransactionService alongside every transaction write.
+@Entity
+@Table(name = "monthly_totals")
+@IdClass(MonthlyTotal.Key.class)
+public class MonthlyTotal {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    // First day of the month the total covers
+    @Id
+    @Column(name = "month_start")
+    private LocalDate monthStart;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal total;
+
+    // Constructors
+    public MonthlyTotal() {
+    }
+
+    public MonthlyTotal(Long userId, Long categoryId, LocalDate monthStart, BigDecimal total) {
+        this.userId = userId;
+        this.categoryId = categoryId;
+        this.monthStart = monthStart;
+        this.total = total;
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public LocalDate getMonthStart() {
+        return monthStart;
+    }
+
+    public void setMonthStart(LocalDate monthStart) {
+        this.monthStart = monthStart;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    // Composite primary key
+    public static class Key implements Serializable {
+
+        private Long userId;
+        private Long categoryId;
+        private LocalDate monthStart;
+
+        public Key() {
+        }
+
+        public Key(Long userId, Long categoryId, LocalDate monthStart) {
+            this.userId = userId;
+            this.categoryId = categoryId;
+            this.monthStart = monthStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return Objects.equals(userId, key.userId) && Objects.equals(categoryId, key.categoryId)
+                    && Objects.equals(monthStart, key.monthStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, categoryId, monthStart);
+        }
+    }
+}
@@ -1,15 +1,26 @@
 package com.finance.tracker.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "transactions")
+// Listings and range sums filter on user_id plus a date range, optionally narrowed by category.
+// amount trails both indexes so the partial-month sums are answered from the index alone.
+// Delta sync reads a user's rows by change_seq.
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_user_date_id", columnList = "user_id, date DESC, id DESC, amount"),
+        @Index(name = "idx_transactions_user_category_date", columnList = "user_id, category_id, date, amount"),
+        @Index(name = "idx_transactions_user_change_seq", columnList = "user_id, change_seq")
+})
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "transactions_id")
+    @GenericGenerator(name = "transactions_id", type = PooledIdGenerator.class,
+            parameters = @Parameter(name = "sequence_name", value = "transactions_seq"))
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,6 +40,15 @@ public class Transaction {
     @Column(length = 500)
     private String note;
 
+    // Bumped on every update; a stale write fails instead of overwriting a concurrent one
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // The owner's users.data_version at the last write of this row
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
     // Constructors
     public Transaction() {
     }
@@ -89,4 +109,16 @@ public class Transaction {
     public void setNote(String note) {
         this.note = note;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public void setChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
 }
\ No newline at end of file
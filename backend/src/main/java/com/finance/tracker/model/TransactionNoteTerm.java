@@ -0,0 +1,83 @@
+package com.finance.tracker.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+// One word of a transaction's note, keyed for per-user prefix search.
+// Maintained by TransactionService alongside every transaction write.
+@Entity
+@Table(name = "transaction_note_terms", indexes = {
+        @Index(name = "idx_transaction_note_terms_transaction", columnList = "transaction_id")
+})
+@IdClass(TransactionNoteTerm.Key.class)
+public class TransactionNoteTerm {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(length = 64)
+    private String term;
+
+    @Id
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    // Constructors
+    public TransactionNoteTerm() {
+    }
+
+    public TransactionNoteTerm(Long userId, String term, Long transactionId) {
+        this.userId = userId;
+        this.term = term;
+        this.transactionId = transactionId;
+    }
+
+    // Getters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getTerm() {
+        return term;
+    }
+
+    public Long getTransactionId() {
+        return transactionId;
+    }
+
+    // Composite primary key
+    public static class Key implements Serializable {
+
+        private Long userId;
+        private String term;
+        private Long transactionId;
+
+        public Key() {
+        }
+
+        public Key(Long userId, String term, Long transactionId) {
+            this.userId = userId;
+            this.term = term;
+            this.transactionId = transactionId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key))
+                return false;
+            Key key = (Key) o;
+            return Objects.equals(userId, key.userId) && Objects.equals(term, key.term)
+                    && Objects.equals(transactionId, key.transactionId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, term, transactionId);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.finance.tracker.model;
+
+import jakarta.persistence.*;
+
+// Left behind by a deleted transaction so delta sync can report the delete.
+// change_seq is the user's data_version at the time of the delete.
+@Entity
+@Table(name = "transaction_tombstones", indexes = {
+        @Index(name = "idx_transaction_tombstones_user_change_seq", columnList = "user_id, change_seq")
+})
+public class TransactionTombstone {
+
+    @Id
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    // Constructors
+    public TransactionTombstone() {
+    }
+
+    public TransactionTombstone(Long transactionId, Long userId, long changeSeq) {
+        this.transactionId = transactionId;
+        this.userId = userId;
+        this.changeSeq = changeSeq;
+    }
+
+    // Getters
+    public Long getTransactionId() {
+        return transactionId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+}
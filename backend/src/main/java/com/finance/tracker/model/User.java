@@ -1,6 +1,8 @@
 package com.finance.tracker.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import java.math.BigDecimal;
 
 @Entity
@@ -8,7 +10,9 @@ import java.math.BigDecimal;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "users_id")
+    @GenericGenerator(name = "users_id", type = PooledIdGenerator.class,
+            parameters = @Parameter(name = "sequence_name", value = "users_seq"))
     private Long id;
 
     @Column(unique = true, nullable = false)
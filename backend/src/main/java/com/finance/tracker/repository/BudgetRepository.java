@@ -3,7 +3,11 @@ package com.finance.tracker.repository;
 import com.finance.tracker.model.Budget;
 import com.finance.tracker.model.User;
 import com.finance.tracker.model.Category;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,11 +16,27 @@ import java.util.Optional;
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
 
+    // Listings fetch the category in the same statement; every DTO needs its name.
+    // Not query-cached: the listing's ETag comes from the database, so the body must too.
+    @EntityGraph(attributePaths = "category")
     List<Budget> findByUser(User user);
 
     Optional<Budget> findByUserAndCategory(User user, Category category);
 
+    @EntityGraph(attributePaths = "category")
     List<Budget> findByUserAndCategory_Type(User user, Category.CategoryType categoryType);
 
     boolean existsByUserAndCategory(User user, Category category);
+
+    boolean existsByUserIdAndCategoryId(Long userId, Long categoryId);
+
+    // Ownership-scoped lookups and deletes: a row of another user is indistinguishable from a missing one
+    Optional<Budget> findByIdAndUserId(Long id, Long userId);
+
+    @EntityGraph(attributePaths = "category")
+    Optional<Budget> findByUserIdAndCategoryId(Long userId, Long categoryId);
+
+    @Modifying
+    @Query("DELETE FROM Budget b WHERE b.id = :id AND b.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
 }
\ No newline at end of file
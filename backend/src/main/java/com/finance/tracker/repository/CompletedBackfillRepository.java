@@ -0,0 +1,22 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.model.CompletedBackfill;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CompletedBackfillRepository extends JpaRepository<CompletedBackfill, String> {
+
+    // Instances starting together may both finish the same backfill; the second mark is a no-op
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "completed_backfills"))
+    @Query(value = "INSERT INTO completed_backfills (name) VALUES (:name) "
+            + "ON DUPLICATE KEY UPDATE name = completed_backfills.name", nativeQuery = true)
+    void markCompleted(@Param("name") String name);
+}
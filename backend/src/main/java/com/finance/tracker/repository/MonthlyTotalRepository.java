@@ -0,0 +1,40 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.model.MonthlyTotal;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface MonthlyTotalRepository extends JpaRepository<MonthlyTotal, MonthlyTotal.Key> {
+
+    // Single-statement upsert so concurrent writers to the same bucket never lose a delta.
+    // The declared table space keeps Hibernate from dropping the whole second-level cache.
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "monthly_totals"))
+    @Query(value = "INSERT INTO monthly_totals (user_id, category_id, month_start, total) "
+            + "VALUES (:userId, :categoryId, :monthStart, :delta) "
+            + "ON DUPLICATE KEY UPDATE total = total + :delta", nativeQuery = true)
+    void addToTotal(@Param("userId") Long userId, @Param("categoryId") Long categoryId,
+            @Param("monthStart") LocalDate monthStart, @Param("delta") BigDecimal delta);
+
+    List<MonthlyTotal> findByUserIdAndMonthStart(Long userId, LocalDate monthStart);
+
+    @Query("SELECT SUM(m.total) FROM MonthlyTotal m WHERE m.userId = :userId AND m.monthStart BETWEEN :fromMonth AND :toMonth")
+    BigDecimal sumTotalByUserAndMonthBetween(@Param("userId") Long userId, @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth);
+
+    @Query("SELECT SUM(m.total) FROM MonthlyTotal m WHERE m.userId = :userId AND m.categoryId = :categoryId AND m.monthStart BETWEEN :fromMonth AND :toMonth")
+    BigDecimal sumTotalByUserAndCategoryAndMonthBetween(@Param("userId") Long userId,
+            @Param("categoryId") Long categoryId, @Param("fromMonth") LocalDate fromMonth,
+            @Param("toMonth") LocalDate toMonth);
+}
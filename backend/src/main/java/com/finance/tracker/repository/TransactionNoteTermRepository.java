@@ -0,0 +1,30 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.model.TransactionNoteTerm;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TransactionNoteTermRepository extends JpaRepository<TransactionNoteTerm, TransactionNoteTerm.Key> {
+
+    List<TransactionNoteTerm> findByTransactionId(Long transactionId);
+
+    // Backfill insert, safe to run next to live writes: a word already indexed is left alone,
+    // and nothing is written once the transaction has been edited or deleted after its note was
+    // read (its change_seq moved on). The write path that changed it indexes it instead.
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "transaction_note_terms"))
+    @Query(value = "INSERT INTO transaction_note_terms (user_id, term, transaction_id) "
+            + "SELECT :userId, :term, t.id FROM transactions t WHERE t.id = :transactionId AND t.change_seq = :changeSeq "
+            + "ON DUPLICATE KEY UPDATE transaction_id = transaction_note_terms.transaction_id", nativeQuery = true)
+    void addIfUnchanged(@Param("userId") Long userId, @Param("term") String term,
+            @Param("transactionId") Long transactionId, @Param("changeSeq") long changeSeq);
+}
@@ -1,26 +1,69 @@
 package com.finance.tracker.repository;
 
+import com.finance.tracker.dto.CategoryMonthTotal;
+import com.finance.tracker.dto.TypeTotal;
 import com.finance.tracker.model.Transaction;
 import com.finance.tracker.model.User;
 import com.finance.tracker.model.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
+    // Listings fetch the category in the same statement; every DTO needs its name and type
+    @EntityGraph(attributePaths = "category")
     List<Transaction> findByUser(User user);
 
+    // Keyset pagination on (date, id), newest first
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT t FROM Transaction t WHERE t.user = :user ORDER BY t.date DESC, t.id DESC")
+    List<Transaction> findPageByUser(@Param("user") User user, Limit limit);
+
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT t FROM Transaction t WHERE t.user = :user AND (t.date < :date OR (t.date = :date AND t.id < :id)) ORDER BY t.date DESC, t.id DESC")
+    List<Transaction> findPageByUserBefore(@Param("user") User user, @Param("date") LocalDate date,
+            @Param("id") Long id, Limit limit);
+
+    // Cursor-backed stream; category is fetched in the same row so no extra statement
+    // runs while the result set is still open
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Transaction t JOIN FETCH t.category WHERE t.user = :user ORDER BY t.date DESC, t.id DESC")
+    Stream<Transaction> streamByUser(@Param("user") User user);
+
+    // Delta sync: rows written after the client's watermark, up to the current one
+    @EntityGraph(attributePaths = "category")
+    @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId AND t.changeSeq > :since AND t.changeSeq <= :until "
+            + "ORDER BY t.changeSeq, t.id")
+    List<Transaction> findChangedBetween(@Param("userId") Long userId, @Param("since") long since,
+            @Param("until") long until);
+
+    // Ownership-scoped lookup: a row of another user is indistinguishable from a missing one
+    Optional<Transaction> findByIdAndUserId(Long id, Long userId);
+
+    @EntityGraph(attributePaths = "category")
     List<Transaction> findByUserAndCategory(User user, Category category);
 
+    @EntityGraph(attributePaths = "category")
     List<Transaction> findByUserAndDateBetween(User user, LocalDate startDate, LocalDate endDate);
 
+    @EntityGraph(attributePaths = "category")
     List<Transaction> findByUserAndCategoryAndDateBetween(User user, Category category, LocalDate startDate,
             LocalDate endDate);
 
@@ -31,4 +74,19 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     @Query("SELECT SUM(t.amount) FROM Transaction t WHERE t.user = :user AND t.category = :category AND t.date BETWEEN :startDate AND :endDate")
     BigDecimal sumAmountByUserAndCategoryAndDateBetween(@Param("user") User user, @Param("category") Category category,
             @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new com.finance.tracker.dto.CategoryMonthTotal(c.id, c.name, c.type, YEAR(t.date), MONTH(t.date), SUM(t.amount)) "
+            + "FROM Transaction t JOIN t.category c WHERE t.user = :user AND t.date BETWEEN :startDate AND :endDate "
+            + "GROUP BY c.id, c.name, c.type, YEAR(t.date), MONTH(t.date)")
+    List<CategoryMonthTotal> sumAmountByUserGroupByCategoryAndMonth(@Param("user") User user,
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT new com.finance.tracker.dto.TypeTotal(c.type, SUM(t.amount)) "
+            + "FROM Transaction t JOIN t.category c WHERE t.user = :user GROUP BY c.type")
+    List<TypeTotal> sumAmountByUserGroupByCategoryType(@Param("user") User user);
+
+    // Source rows for backfilling the note index, in id order: transaction id, user id, note, change_seq
+    @Query("SELECT t.id, t.user.id, t.note, t.changeSeq FROM Transaction t WHERE t.id > :afterId AND t.note IS NOT NULL "
+            + "ORDER BY t.id")
+    List<Object[]> findNotesAfter(@Param("afterId") Long afterId, Limit limit);
 }
\ No newline at end of file
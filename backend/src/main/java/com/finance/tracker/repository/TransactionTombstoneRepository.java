@@ -0,0 +1,18 @@
+package com.finance.tracker.repository;
+
+import com.finance.tracker.model.TransactionTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TransactionTombstoneRepository extends JpaRepository<TransactionTombstone, Long> {
+
+    @Query("SELECT t.transactionId FROM TransactionTombstone t WHERE t.userId = :userId "
+            + "AND t.changeSeq > :since AND t.changeSeq <= :until ORDER BY t.changeSeq, t.transactionId")
+    List<Long> findTransactionIdsChangedBetween(@Param("userId") Long userId, @Param("since") long since,
+            @Param("until") long until);
+}
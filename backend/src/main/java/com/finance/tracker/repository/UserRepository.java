@@ -1,9 +1,18 @@
 package com.finance.tracker.repository;
 
 import com.finance.tracker.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +21,27 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
 
     boolean existsByUsername(String username);
-}
\ No newline at end of file
+
+    // Compare-and-set, so a login rehash never overwrites a password changed in the meantime
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :currentPassword")
+    int replacePassword(@Param("id") Long id, @Param("currentPassword") String currentPassword,
+            @Param("newPassword") String newPassword);
+
+    // Keyset batches of users left without a usable password, in id order
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId AND (u.password IS NULL OR TRIM(u.password) = '') ORDER BY u.id")
+    List<Long> findIdsWithoutPasswordAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // The change stamp is not mapped on User, so saving a cached entity can never write an old
+    // value back. The bump runs inside the caller's write transaction and commits with it.
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = "UPDATE users SET data_version = data_version + 1 WHERE id = :id", nativeQuery = true)
+    int incrementDataVersion(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = "SELECT data_version FROM users WHERE id = :id", nativeQuery = true)
+    Optional<Long> findDataVersion(@Param("id") Long id);
+}
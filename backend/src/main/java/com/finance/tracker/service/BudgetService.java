@@ -1,40 +1,79 @@
 package com.finance.tracker.service;
 
+import com.finance.tracker.config.MetricsConfig;
+import com.finance.tracker.dto.BudgetWithSpend;
 import com.finance.tracker.model.Budget;
 import com.finance.tracker.model.User;
 import com.finance.tracker.model.Category;
+import com.finance.tracker.model.MonthlyTotal;
 import com.finance.tracker.repository.BudgetRepository;
-import com.finance.tracker.repository.UserRepository;
-import com.finance.tracker.repository.CategoryRepository;
+import com.finance.tracker.repository.MonthlyTotalRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class BudgetService {
 
     private final BudgetRepository budgetRepository;
-    private final UserRepository userRepository;
-    private final CategoryRepository categoryRepository;
+    private final UserService userService;
+    private final CategoryService categoryService;
+    private final MonthlyTotalRepository monthlyTotalRepository;
 
     public BudgetService(BudgetRepository budgetRepository,
-            UserRepository userRepository,
-            CategoryRepository categoryRepository) {
+            UserService userService,
+            CategoryService categoryService,
+            MonthlyTotalRepository monthlyTotalRepository) {
         this.budgetRepository = budgetRepository;
-        this.userRepository = userRepository;
-        this.categoryRepository = categoryRepository;
+        this.userService = userService;
+        this.categoryService = categoryService;
+        this.monthlyTotalRepository = monthlyTotalRepository;
     }
 
     public List<Budget> listBudgetsByUser(Long userId) {
-        User user = userRepository.findById(userId)
+        User user = userService.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
         return budgetRepository.findByUser(user);
     }
 
+    // Spend for every budget comes from one read of the user's monthly_totals rows for the
+    // month, so the listing costs the same number of queries however many budgets exist
+    public List<BudgetWithSpend> listBudgetsWithSpendByUser(Long userId, YearMonth month) {
+        List<Budget> budgets = listBudgetsByUser(userId);
+        Map<Long, BigDecimal> spendByCategory = new HashMap<>();
+        for (MonthlyTotal total : monthlyTotalRepository.findByUserIdAndMonthStart(userId, month.atDay(1))) {
+            spendByCategory.put(total.getCategoryId(), total.getTotal());
+        }
+        return budgets.stream()
+                .map(budget -> new BudgetWithSpend(budget,
+                        spendByCategory.getOrDefault(budget.getCategory().getId(), BigDecimal.ZERO)))
+                .collect(Collectors.toList());
+    }
+
+    public BigDecimal getSpendForMonth(Long userId, Long categoryId, YearMonth month) {
+        LocalDate monthStart = month.atDay(1);
+        return monthlyTotalRepository.findById(new MonthlyTotal.Key(userId, categoryId, monthStart))
+                .map(MonthlyTotal::getTotal)
+                .orElse(BigDecimal.ZERO);
+    }
+
     public List<Budget> listBudgetsByUserAndCategoryType(Long userId, Category.CategoryType categoryType) {
-        User user = userRepository.findById(userId)
+        User user = userService.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
         return budgetRepository.findByUserAndCategory_Type(user, categoryType);
     }
@@ -44,49 +83,58 @@ public class BudgetService {
     }
 
     public Optional<Budget> findByUserAndCategory(Long userId, Long categoryId) {
-        User user = userRepository.findById(userId)
+        User user = userService.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
-        Category category = categoryRepository.findById(categoryId)
+        Category category = categoryService.findById(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found with id: " + categoryId));
         return budgetRepository.findByUserAndCategory(user, category);
     }
 
+    // Upsert: creating a budget for a category that already has one replaces its limit. The
+    // unique (user_id, category_id) key settles concurrent creates; the losing insert fails,
+    // and its retry finds and updates the winner's row under the usual version check.
+    @Retryable(retryFor = { DataIntegrityViolationException.class, ObjectOptimisticLockingFailureException.class },
+            maxAttempts = 4, backoff = @Backoff(delay = 10, maxDelay = 100, random = true))
+    @Transactional
     public Budget createBudget(Long userId, Long categoryId, BigDecimal monthlyLimit) {
-        User user = userRepository.findById(userId)
+        User user = userService.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
-        Category category = categoryRepository.findById(categoryId)
+        Category category = categoryService.findById(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found with id: " + categoryId));
 
-        if (budgetRepository.existsByUserAndCategory(user, category)) {
-            throw new IllegalArgumentException("Budget already exists for user and category");
-        }
-
         if (monthlyLimit == null || monthlyLimit.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Monthly limit must be greater than zero");
         }
 
-        Budget budget = new Budget(user, category, monthlyLimit);
-        return budgetRepository.save(budget);
+        // The user's row is locked before the budget row, as on every other write path
+        userService.markDataChanged(userId);
+        Optional<Budget> existing = budgetRepository.findByUserIdAndCategoryId(userId, categoryId);
+        if (existing.isPresent()) {
+            existing.get().setMonthlyLimit(monthlyLimit);
+            return existing.get();
+        }
+        return budgetRepository.saveAndFlush(new Budget(user, category, monthlyLimit));
     }
 
-    public Budget updateBudget(Long id, Long userId, Long categoryId, BigDecimal monthlyLimit) {
-        Budget budget = budgetRepository.findById(id)
+    // One ownership-scoped SELECT and one UPDATE; the duplicate check only runs when the
+    // category actually changes
+    @Retryable(retryFor = ObjectOptimisticLockingFailureException.class, maxAttempts = 4,
+            backoff = @Backoff(delay = 10, maxDelay = 100, random = true))
+    @Transactional
+    public Budget updateBudget(Long id, Long userId, Long categoryId, BigDecimal monthlyLimit,
+            Long expectedVersion) {
+        Budget budget = budgetRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new IllegalArgumentException("Budget not found with id: " + id));
-
-        // Verify the budget belongs to the user
-        if (!budget.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("Budget does not belong to the specified user");
+        if (expectedVersion != null && !expectedVersion.equals(budget.getVersion())) {
+            throw new OptimisticLockingFailureException("Budget was changed by another request; reload and try again");
         }
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
-        Category category = categoryRepository.findById(categoryId)
+        Category category = categoryService.findById(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found with id: " + categoryId));
 
         // Check if we're changing the category and if a budget already exists for the
         // new category
         if (!budget.getCategory().getId().equals(categoryId) &&
-                budgetRepository.existsByUserAndCategory(user, category)) {
+                budgetRepository.existsByUserIdAndCategoryId(userId, categoryId)) {
             throw new IllegalArgumentException("Budget already exists for user and category");
         }
 
@@ -94,29 +142,25 @@ public class BudgetService {
             throw new IllegalArgumentException("Monthly limit must be greater than zero");
         }
 
-        budget.setUser(user);
         budget.setCategory(category);
         budget.setMonthlyLimit(monthlyLimit);
-
-        return budgetRepository.save(budget);
+        userService.markDataChanged(userId);
+        return budget;
     }
 
+    // Single DELETE scoped to the owner, after the change stamp; nothing is loaded first
+    @Transactional
     public void deleteBudget(Long id, Long userId) {
-        Budget budget = budgetRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Budget not found with id: " + id));
-
-        // Verify the budget belongs to the user
-        if (!budget.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("Budget does not belong to the specified user");
+        userService.markDataChanged(userId);
+        if (budgetRepository.deleteByIdAndUserId(id, userId) == 0) {
+            throw new IllegalArgumentException("Budget not found with id: " + id);
         }
-
-        budgetRepository.deleteById(id);
     }
 
     public boolean existsByUserAndCategory(Long userId, Long categoryId) {
-        User user = userRepository.findById(userId)
+        User user = userService.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
-        Category category = categoryRepository.findById(categoryId)
+        Category category = categoryService.findById(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found with id: " + categoryId));
         return budgetRepository.existsByUserAndCategory(user, category);
     }
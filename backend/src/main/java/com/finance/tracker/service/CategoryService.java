@@ -1,13 +1,20 @@
 package com.finance.tracker.service;
 
+import com.finance.tracker.config.CacheConfig;
+import com.finance.tracker.config.MetricsConfig;
 import com.finance.tracker.model.Category;
 import com.finance.tracker.repository.CategoryRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
@@ -16,6 +23,7 @@ public class CategoryService {
         this.categoryRepository = categoryRepository;
     }
 
+    @Cacheable(cacheNames = CacheConfig.CATEGORY_LIST, key = "'all'")
     public List<Category> listAllCategories() {
         return categoryRepository.findAll();
     }
@@ -24,6 +32,8 @@ public class CategoryService {
         return categoryRepository.findByType(type);
     }
 
+    // Cached instances are detached and shared; callers only read them or use them as references
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, unless = "#result == null")
     public Optional<Category> findById(Long id) {
         return categoryRepository.findById(id);
     }
@@ -32,6 +42,7 @@ public class CategoryService {
         return categoryRepository.findByName(name);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CATEGORY_LIST, allEntries = true)
     public Category createCategory(String name, Category.CategoryType type) {
         if (categoryRepository.existsByName(name)) {
             throw new IllegalArgumentException("Category name already exists: " + name);
@@ -41,6 +52,10 @@ public class CategoryService {
         return categoryRepository.save(category);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY_LIST, allEntries = true)
+    })
     public Category updateCategory(Long id, String name, Category.CategoryType type) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found with id: " + id));
@@ -55,6 +70,10 @@ public class CategoryService {
         return categoryRepository.save(category);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIES, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORY_LIST, allEntries = true)
+    })
     public void deleteCategory(Long id) {
         if (!categoryRepository.existsById(id)) {
             throw new IllegalArgumentException("Category not found with id: " + id);
@@ -0,0 +1,50 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.model.Category;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+// Cheap change stamps for the listing endpoints. A user's stamp moves with every transaction or
+// budget write (users.data_version) and with any change to the category catalogue, whose names
+// and types appear in every listing. Reading one costs a primary-key lookup; the catalogue part
+// is hashed from the cached category list.
+@Service
+public class ChangeStampService {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final UserService userService;
+    private final CategoryService categoryService;
+
+    public ChangeStampService(UserService userService, CategoryService categoryService) {
+        this.userService = userService;
+        this.categoryService = categoryService;
+    }
+
+    // Empty when the user does not exist
+    public Optional<String> userStamp(Long userId) {
+        return userService.findDataVersion(userId).map(version -> userStamp(userId, version));
+    }
+
+    public Optional<Long> dataVersion(Long userId) {
+        return userService.findDataVersion(userId);
+    }
+
+    public String userStamp(Long userId, long dataVersion) {
+        return userId + "-" + dataVersion + "-" + categoriesStamp();
+    }
+
+    public String categoriesStamp() {
+        long hash = FNV_OFFSET_BASIS;
+        for (Category category : categoryService.listAllCategories()) {
+            String entry = category.getId() + ":" + category.getName() + ":" + category.getType() + ";";
+            for (byte b : entry.getBytes(StandardCharsets.UTF_8)) {
+                hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+            }
+        }
+        return Long.toHexString(hash);
+    }
+}
@@ -0,0 +1,90 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.CategoryMonthTotal;
+import com.finance.tracker.dto.DashboardSummary;
+import com.finance.tracker.dto.TypeTotal;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.User;
+import com.finance.tracker.repository.TransactionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class DashboardService {
+
+    private final TransactionRepository transactionRepository;
+    private final UserService userService;
+
+    public DashboardService(TransactionRepository transactionRepository, UserService userService) {
+        this.transactionRepository = transactionRepository;
+        this.userService = userService;
+    }
+
+    // Builds the dashboard from two grouped queries: all-time totals per category type and
+    // per-category monthly totals over the trend window ending with the given month
+    @Transactional(readOnly = true)
+    public DashboardSummary getSummary(Long userId, YearMonth month, int trendMonths) {
+        User user = userService.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
+
+        BigDecimal totalIncome = BigDecimal.ZERO;
+        BigDecimal totalExpense = BigDecimal.ZERO;
+        for (TypeTotal typeTotal : transactionRepository.sumAmountByUserGroupByCategoryType(user)) {
+            if (typeTotal.type() == Category.CategoryType.INCOME) {
+                totalIncome = totalIncome.add(typeTotal.total());
+            } else {
+                totalExpense = totalExpense.add(typeTotal.total());
+            }
+        }
+
+        YearMonth firstMonth = month.minusMonths(trendMonths - 1L);
+        List<CategoryMonthTotal> rows = transactionRepository.sumAmountByUserGroupByCategoryAndMonth(user,
+                firstMonth.atDay(1), month.atEndOfMonth());
+
+        // Seed every month of the window so gaps show up as zero rather than disappearing
+        Map<YearMonth, BigDecimal[]> monthTotals = new LinkedHashMap<>();
+        for (YearMonth m = firstMonth; !m.isAfter(month); m = m.plusMonths(1)) {
+            monthTotals.put(m, new BigDecimal[] { BigDecimal.ZERO, BigDecimal.ZERO });
+        }
+        Map<Long, BigDecimal[]> categoryTotals = new LinkedHashMap<>();
+        Map<Long, String> categoryNames = new LinkedHashMap<>();
+
+        for (CategoryMonthTotal row : rows) {
+            int slot = row.type() == Category.CategoryType.INCOME ? 0 : 1;
+            YearMonth rowMonth = YearMonth.of(row.year(), row.month());
+            BigDecimal[] monthTotal = monthTotals.get(rowMonth);
+            monthTotal[slot] = monthTotal[slot].add(row.total());
+
+            if (rowMonth.equals(month)) {
+                BigDecimal[] categoryTotal = categoryTotals.computeIfAbsent(row.categoryId(),
+                        id -> new BigDecimal[] { BigDecimal.ZERO, BigDecimal.ZERO });
+                categoryTotal[slot] = categoryTotal[slot].add(row.total());
+                categoryNames.put(row.categoryId(), row.categoryName());
+            }
+        }
+
+        List<DashboardSummary.CategorySummary> categories = new ArrayList<>();
+        categoryTotals.forEach((categoryId, totals) -> categories.add(new DashboardSummary.CategorySummary(
+                categoryId, categoryNames.get(categoryId), totals[0], totals[1], totals[0].subtract(totals[1]))));
+        // Most active categories first
+        categories.sort(Comparator.comparing(
+                (DashboardSummary.CategorySummary c) -> c.income().add(c.expense())).reversed());
+
+        List<DashboardSummary.MonthSummary> trend = new ArrayList<>();
+        monthTotals.forEach((m, totals) -> trend.add(new DashboardSummary.MonthSummary(
+                m.toString(), totals[0], totals[1], totals[0].subtract(totals[1]))));
+
+        BigDecimal[] current = monthTotals.get(month);
+        return new DashboardSummary(totalIncome, totalExpense, totalIncome.subtract(totalExpense),
+                month.toString(), current[0], current[1], current[0].subtract(current[1]),
+                categories, trend);
+    }
+}
@@ -0,0 +1,127 @@
+package com.finance.tracker.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+// BCrypt hashing with a configurable cost. Every hash and verification runs on a small pool
+// sized to the cores with a bounded queue, so a login spike saturates that pool rather than
+// every request thread; when the queue is full the call fails fast with
+// RejectedExecutionException. Successful verifications are remembered for a short while,
+// keyed by a digest of the stored hash and the password, so repeat logins skip BCrypt.
+@Service
+public class PasswordService {
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}$");
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor hashPool;
+    private final Cache<String, Boolean> verified;
+
+    public PasswordService(@Value("${finance.password.bcrypt-cost:10}") int cost,
+            @Value("${finance.password.hash-threads:0}") int threads,
+            @Value("${finance.password.hash-queue:64}") int queueCapacity,
+            @Value("${finance.password.verified-cache-ttl-seconds:300}") long verifiedTtlSeconds) {
+        this.encoder = new BCryptPasswordEncoder(cost);
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.hashPool = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        // A TTL of zero turns the verified cache off
+        this.verified = verifiedTtlSeconds > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(10_000)
+                        .expireAfterWrite(Duration.ofSeconds(verifiedTtlSeconds))
+                        .build()
+                : null;
+    }
+
+    public String hash(String rawPassword) {
+        return run(() -> encoder.encode(rawPassword));
+    }
+
+    // Stored values that are not BCrypt hashes are legacy plaintext rows and are compared in
+    // constant time; the caller rehashes them once the login succeeds
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (rawPassword == null || storedPassword == null) {
+            return false;
+        }
+        if (!isHashed(storedPassword)) {
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+
+        if (verified == null) {
+            return run(() -> encoder.matches(rawPassword, storedPassword));
+        }
+        String key = verifiedKey(rawPassword, storedPassword);
+        if (verified.getIfPresent(key) != null) {
+            return true;
+        }
+        boolean matches = run(() -> encoder.matches(rawPassword, storedPassword));
+        if (matches) {
+            verified.put(key, Boolean.TRUE);
+        }
+        return matches;
+    }
+
+    // True for plaintext rows and for hashes made with a lower cost than the configured one
+    public boolean needsRehash(String storedPassword) {
+        return !isHashed(storedPassword) || encoder.upgradeEncoding(storedPassword);
+    }
+
+    public boolean isHashed(String storedPassword) {
+        return storedPassword != null && BCRYPT_HASH.matcher(storedPassword).matches();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashPool.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task) {
+        try {
+            return hashPool.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static String verifiedKey(String rawPassword, String storedPassword) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(storedPassword.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(rawPassword.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
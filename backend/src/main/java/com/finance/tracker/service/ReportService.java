@@ -0,0 +1,161 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.config.MetricsConfig;
+import com.finance.tracker.dto.CategoryMonthTotal;
+import com.finance.tracker.dto.Report;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.User;
+import com.finance.tracker.repository.TransactionRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Income/expense statements for arbitrary ranges. The whole matrix of category x period totals
+// comes from one grouped (category, year, month) query over the range, so a report holds a
+// single connection for a single statement however many years it spans; savings rates and
+// income-goal progress are folded from its rows in memory. The income goal of a period is the
+// user's monthly goal times the calendar months the period touches.
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class ReportService {
+
+    public enum Granularity {
+        MONTH, YEAR
+    }
+
+    static final int MAX_MONTHS = 120;
+    private static final int RATE_SCALE = 4;
+
+    private final TransactionRepository transactionRepository;
+    private final UserService userService;
+
+    public ReportService(TransactionRepository transactionRepository, UserService userService) {
+        this.transactionRepository = transactionRepository;
+        this.userService = userService;
+    }
+
+    public Report getReport(Long userId, LocalDate from, LocalDate to, Granularity granularity) {
+        User user = userService.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        YearMonth firstMonth = YearMonth.from(from);
+        YearMonth lastMonth = YearMonth.from(to);
+        if (firstMonth.until(lastMonth, ChronoUnit.MONTHS) >= MAX_MONTHS) {
+            throw new IllegalArgumentException("Range cannot span more than " + MAX_MONTHS + " months");
+        }
+
+        List<CategoryMonthTotal> rows = transactionRepository.sumAmountByUserGroupByCategoryAndMonth(user, from,
+                to);
+
+        // Seed every period so gaps show up as zero rather than disappearing
+        Map<String, Integer> periodIndex = new LinkedHashMap<>();
+        List<Integer> periodMonths = new ArrayList<>();
+        for (YearMonth m = firstMonth; !m.isAfter(lastMonth); m = m.plusMonths(1)) {
+            Integer index = periodIndex.putIfAbsent(label(m, granularity), periodIndex.size());
+            if (index == null) {
+                periodMonths.add(1);
+            } else {
+                periodMonths.set(index, periodMonths.get(index) + 1);
+            }
+        }
+        int periodCount = periodIndex.size();
+        BigDecimal[] periodIncome = zeros(periodCount);
+        BigDecimal[] periodExpense = zeros(periodCount);
+        Map<Long, CategoryAccumulator> categories = new LinkedHashMap<>();
+
+        for (CategoryMonthTotal row : rows) {
+            int index = periodIndex.get(label(YearMonth.of(row.year(), row.month()), granularity));
+            boolean income = row.type() == Category.CategoryType.INCOME;
+            BigDecimal[] typeTotals = income ? periodIncome : periodExpense;
+            typeTotals[index] = typeTotals[index].add(row.total());
+            categories.computeIfAbsent(row.categoryId(),
+                    id -> new CategoryAccumulator(row.categoryName(), row.type(), periodCount))
+                    .add(index, row.total());
+        }
+
+        BigDecimal monthlyGoal = user.getMonthlyIncomeGoal();
+        List<Report.PeriodTotal> periods = new ArrayList<>(periodCount);
+        int i = 0;
+        for (String period : periodIndex.keySet()) {
+            BigDecimal goal = monthlyGoal != null ? monthlyGoal.multiply(BigDecimal.valueOf(periodMonths.get(i)))
+                    : null;
+            periods.add(new Report.PeriodTotal(period, periodIncome[i], periodExpense[i],
+                    periodIncome[i].subtract(periodExpense[i]),
+                    ratio(periodIncome[i].subtract(periodExpense[i]), periodIncome[i]),
+                    goal, ratio(periodIncome[i], goal)));
+            i++;
+        }
+
+        List<Report.CategoryTotal> categoryTotals = new ArrayList<>(categories.size());
+        categories.forEach((categoryId, accumulator) -> categoryTotals.add(new Report.CategoryTotal(categoryId,
+                accumulator.name, accumulator.type == Category.CategoryType.INCOME ? "income" : "expense",
+                accumulator.total, Arrays.asList(accumulator.periodTotals))));
+        // Largest categories first
+        categoryTotals.sort(Comparator.comparing(Report.CategoryTotal::total).reversed());
+
+        BigDecimal income = sum(periodIncome);
+        BigDecimal expense = sum(periodExpense);
+        BigDecimal goal = monthlyGoal != null
+                ? monthlyGoal.multiply(BigDecimal.valueOf(firstMonth.until(lastMonth, ChronoUnit.MONTHS) + 1))
+                : null;
+        return new Report(from.toString(), to.toString(), granularity.name().toLowerCase(),
+                income, expense, income.subtract(expense), ratio(income.subtract(expense), income),
+                goal, ratio(income, goal), periods, categoryTotals);
+    }
+
+    private static String label(YearMonth month, Granularity granularity) {
+        return granularity == Granularity.YEAR ? String.valueOf(month.getYear()) : month.toString();
+    }
+
+    private static BigDecimal ratio(BigDecimal numerator, BigDecimal denominator) {
+        if (denominator == null || denominator.signum() == 0) {
+            return null;
+        }
+        return numerator.divide(denominator, RATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal[] zeros(int size) {
+        BigDecimal[] values = new BigDecimal[size];
+        Arrays.fill(values, BigDecimal.ZERO);
+        return values;
+    }
+
+    private static BigDecimal sum(BigDecimal[] values) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal value : values) {
+            total = total.add(value);
+        }
+        return total;
+    }
+
+    private static final class CategoryAccumulator {
+        private final String name;
+        private final Category.CategoryType type;
+        private final BigDecimal[] periodTotals;
+        private BigDecimal total = BigDecimal.ZERO;
+
+        CategoryAccumulator(String name, Category.CategoryType type, int periods) {
+            this.name = name;
+            this.type = type;
+            this.periodTotals = zeros(periods);
+        }
+
+        void add(int period, BigDecimal amount) {
+            periodTotals[period] = periodTotals[period].add(amount);
+            total = total.add(amount);
+        }
+    }
+}
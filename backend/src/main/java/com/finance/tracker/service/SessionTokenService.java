@@ -0,0 +1,125 @@
+package com.finance.tracker.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Base64;
+
+// Issues and verifies HS256 JWTs carrying the user id. Verification is a single HMAC over the
+// token and needs no database or shared session store, so any instance holding the same
+// finance.session.secret accepts tokens issued by any other.
+@Service
+public class SessionTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionTokenService.class);
+
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64URL_DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = BASE64URL.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+    private static final String HMAC_SHA256 = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final long ttlSeconds;
+    private final Clock clock;
+    // Mac instances are not thread-safe; one per thread avoids a provider lookup per request
+    private final ThreadLocal<Mac> macs;
+
+    @Autowired
+    public SessionTokenService(@Value("${finance.session.secret:}") String secret,
+            @Value("${finance.session.ttl-minutes:720}") long ttlMinutes) {
+        this(secret, ttlMinutes, Clock.systemUTC());
+    }
+
+    SessionTokenService(String secret, long ttlMinutes, Clock clock) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("finance.session.secret is not set; using a random key. Sessions will not survive "
+                    + "a restart or be accepted by other instances");
+        } else {
+            keyBytes = Base64.getDecoder().decode(secret);
+            if (keyBytes.length < 32) {
+                throw new IllegalArgumentException("finance.session.secret must be at least 256 bits");
+            }
+        }
+        this.key = new SecretKeySpec(keyBytes, HMAC_SHA256);
+        this.ttlSeconds = ttlMinutes * 60;
+        this.clock = clock;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String issue(Long userId) {
+        long now = clock.instant().getEpochSecond();
+        String claims = "{\"sub\":\"" + userId + "\",\"iat\":" + now + ",\"exp\":" + (now + ttlSeconds) + "}";
+        String signingInput = HEADER + "." + BASE64URL.encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+        return signingInput + "." + BASE64URL.encodeToString(sign(signingInput));
+    }
+
+    // Returns the user id of a well-formed, correctly signed and unexpired token, otherwise null
+    public Long verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        int headerEnd = token.indexOf('.');
+        int claimsEnd = token.indexOf('.', headerEnd + 1);
+        if (headerEnd != HEADER.length() || claimsEnd < 0 || token.indexOf('.', claimsEnd + 1) >= 0
+                || !token.startsWith(HEADER)) {
+            return null;
+        }
+
+        byte[] signature;
+        String claims;
+        try {
+            signature = BASE64URL_DECODER.decode(token.substring(claimsEnd + 1));
+            if (!MessageDigest.isEqual(sign(token.substring(0, claimsEnd)), signature)) {
+                return null;
+            }
+            claims = new String(BASE64URL_DECODER.decode(token.substring(headerEnd + 1, claimsEnd)),
+                    StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        // The signature matched, so the claims are exactly what issue() wrote
+        long expiresAt = numberAfter(claims, "\"exp\":");
+        if (expiresAt <= clock.instant().getEpochSecond()) {
+            return null;
+        }
+        return numberAfter(claims, "\"sub\":\"");
+    }
+
+    private byte[] sign(String signingInput) {
+        return macs.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long numberAfter(String claims, String field) {
+        int start = claims.indexOf(field) + field.length();
+        int end = start;
+        while (end < claims.length() && Character.isDigit(claims.charAt(end))) {
+            end++;
+        }
+        return Long.parseLong(claims, start, end, 10);
+    }
+}
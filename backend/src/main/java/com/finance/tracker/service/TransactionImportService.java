@@ -0,0 +1,207 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.ImportResult;
+import com.finance.tracker.importer.CsvTransactionReader;
+import com.finance.tracker.importer.ImportRow;
+import com.finance.tracker.importer.OfxTransactionReader;
+import com.finance.tracker.importer.TransactionRowReader;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.User;
+import com.finance.tracker.repository.CategoryRepository;
+import com.finance.tracker.repository.MonthlyTotalRepository;
+import com.finance.tracker.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Service
+public class TransactionImportService {
+
+    static final int BATCH_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("99999999.99");
+    private static final int MAX_NOTE_LENGTH = 500;
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final MonthlyTotalRepository monthlyTotalRepository;
+    private final TransactionSearchService searchService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionImportService(UserRepository userRepository,
+            CategoryRepository categoryRepository,
+            MonthlyTotalRepository monthlyTotalRepository,
+            TransactionSearchService searchService,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.monthlyTotalRepository = monthlyTotalRepository;
+        this.searchService = searchService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Streams the upload row by row and writes it in batches, each committed with its rollup
+    // deltas. Pooled ids and hibernate.jdbc.batch_size turn each batch into batched INSERTs.
+    // Rows that fail validation are skipped and reported with their line.
+    public ImportResult importTransactions(Long userId, InputStream input, String format, Long expenseCategoryId,
+            Long incomeCategoryId) throws IOException {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found with id: " + userId);
+        }
+
+        // The category table is tiny; resolve every row against one snapshot of it
+        Map<Long, Category> categoriesById = new HashMap<>();
+        Map<String, Category> categoriesByName = new HashMap<>();
+        for (Category category : categoryRepository.findAll()) {
+            categoriesById.put(category.getId(), category);
+            categoriesByName.put(category.getName().toLowerCase(Locale.ROOT), category);
+        }
+        Category expenseCategory = defaultCategory(categoriesById, expenseCategoryId);
+        Category incomeCategory = defaultCategory(categoriesById, incomeCategoryId);
+
+        Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        TransactionRowReader rows = "ofx".equalsIgnoreCase(format)
+                ? new OfxTransactionReader(reader)
+                : new CsvTransactionReader(reader);
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        Map<BucketKey, BigDecimal> deltas = new HashMap<>();
+        List<ImportResult.RowError> errors = new ArrayList<>();
+        int imported = 0;
+        int failed = 0;
+
+        while (true) {
+            ImportRow row;
+            Object[] args;
+            try {
+                row = rows.next();
+                if (row == null) {
+                    break;
+                }
+                args = toInsertArgs(userId, row, categoriesById, categoriesByName, expenseCategory, incomeCategory);
+            } catch (IllegalArgumentException e) {
+                failed++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new ImportResult.RowError(rows.line(), e.getMessage()));
+                }
+                continue;
+            }
+
+            batch.add(args);
+            LocalDate monthStart = ((LocalDate) args[3]).withDayOfMonth(1);
+            deltas.merge(new BucketKey((Long) args[1], monthStart), (BigDecimal) args[2], BigDecimal::add);
+            if (batch.size() == BATCH_SIZE) {
+                imported += writeBatch(userId, batch, deltas);
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += writeBatch(userId, batch, deltas);
+        }
+        return new ImportResult(imported, failed, errors);
+    }
+
+    private int writeBatch(Long userId, List<Object[]> batch, Map<BucketKey, BigDecimal> deltas) {
+        int size = batch.size();
+        transactionTemplate.executeWithoutResult(status -> {
+            // One change stamp for the whole batch, taken before any row is written
+            userRepository.incrementDataVersion(userId);
+            long changeSeq = userRepository.findDataVersion(userId).orElseThrow();
+            // References only; the user and categories were validated up front
+            User user = entityManager.getReference(User.class, userId);
+            for (Object[] args : batch) {
+                Transaction transaction = new Transaction(user, entityManager.getReference(Category.class, args[1]),
+                        (BigDecimal) args[2], (LocalDate) args[3], (String) args[4]);
+                transaction.setChangeSeq(changeSeq);
+                entityManager.persist(transaction);
+                // The pooled id is assigned on persist; the word rows join the same INSERT batches
+                searchService.indexNote(userId, transaction.getId(), transaction.getNote());
+            }
+            entityManager.flush();
+            entityManager.clear();
+            deltas.forEach((bucket, delta) -> monthlyTotalRepository.addToTotal(userId, bucket.categoryId(),
+                    bucket.monthStart(), delta));
+        });
+        batch.clear();
+        deltas.clear();
+        return size;
+    }
+
+    private Object[] toInsertArgs(Long userId, ImportRow row, Map<Long, Category> categoriesById,
+            Map<String, Category> categoriesByName, Category expenseCategory, Category incomeCategory) {
+        BigDecimal amount = row.amount();
+        Category category;
+        if (row.category() != null) {
+            category = isNumeric(row.category())
+                    ? categoriesById.get(Long.parseLong(row.category()))
+                    : categoriesByName.get(row.category().toLowerCase(Locale.ROOT));
+            if (category == null) {
+                throw new IllegalArgumentException("Category not found: " + row.category());
+            }
+            if (amount.signum() < 0) {
+                throw new IllegalArgumentException("Amount cannot be negative");
+            }
+        } else {
+            // Direction-signed statement rows: debits are expenses, credits are income
+            category = amount.signum() < 0 ? expenseCategory : incomeCategory;
+            if (category == null) {
+                throw new IllegalArgumentException(amount.signum() < 0
+                        ? "No expense category given for debit rows"
+                        : "No income category given for credit rows");
+            }
+            amount = amount.abs();
+        }
+
+        amount = amount.setScale(2, RoundingMode.HALF_UP);
+        if (amount.compareTo(MAX_AMOUNT) > 0) {
+            throw new IllegalArgumentException("Amount is too large");
+        }
+        if (row.note() != null && row.note().length() > MAX_NOTE_LENGTH) {
+            throw new IllegalArgumentException("Note exceeds " + MAX_NOTE_LENGTH + " characters");
+        }
+        return new Object[] { userId, category.getId(), amount, row.date(), row.note() };
+    }
+
+    private Category defaultCategory(Map<Long, Category> categoriesById, Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        Category category = categoriesById.get(categoryId);
+        if (category == null) {
+            throw new IllegalArgumentException("Category not found with id: " + categoryId);
+        }
+        return category;
+    }
+
+    private boolean isNumeric(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return !value.isEmpty();
+    }
+
+    private record BucketKey(Long categoryId, LocalDate monthStart) {
+    }
+}
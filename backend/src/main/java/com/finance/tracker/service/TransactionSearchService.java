@@ -0,0 +1,205 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.config.MetricsConfig;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.TransactionNoteTerm;
+import com.finance.tracker.repository.CompletedBackfillRepository;
+import com.finance.tracker.repository.TransactionNoteTermRepository;
+import com.finance.tracker.repository.TransactionRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Word search over transaction notes, backed by the transaction_note_terms inverted index.
+// Every note is split into lower-cased words without accents; a query word matches any indexed
+// word it is a prefix of, and all query words must match. The index rows are written in the same
+// database transaction as the note, so a search never sees a note the listing does not.
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class TransactionSearchService {
+
+    static final int MIN_TERM_LENGTH = 2;
+    static final int MAX_TERM_LENGTH = 64;
+    static final int MAX_QUERY_TERMS = 5;
+    static final int BACKFILL_BATCH_SIZE = 1000;
+    public static final String NOTE_INDEX_BACKFILL = "transaction_note_terms";
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionNoteTermRepository noteTermRepository;
+    private final CompletedBackfillRepository completedBackfillRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public TransactionSearchService(TransactionRepository transactionRepository,
+            TransactionNoteTermRepository noteTermRepository,
+            CompletedBackfillRepository completedBackfillRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager) {
+        this.transactionRepository = transactionRepository;
+        this.noteTermRepository = noteTermRepository;
+        this.completedBackfillRepository = completedBackfillRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Distinct searchable words of a note, in order of first appearance. Case, accents and
+    // compatibility forms are folded, so "Café" and "cafe" are one word, both here and in the
+    // binary-collated term column. Single characters are too common to narrow anything down.
+    static Set<String> terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("");
+        for (String word : NON_WORD.split(folded.toLowerCase(Locale.ROOT))) {
+            if (word.length() < MIN_TERM_LENGTH) {
+                continue;
+            }
+            // The column holds 64 characters; never cut a surrogate pair in half
+            if (word.codePointCount(0, word.length()) > MAX_TERM_LENGTH) {
+                word = word.substring(0, word.offsetByCodePoints(0, MAX_TERM_LENGTH));
+            }
+            terms.add(word);
+        }
+        return terms;
+    }
+
+    // Index maintenance below runs inside the caller's transaction, the one writing the note
+    void indexNote(Long userId, Long transactionId, String note) {
+        for (String term : terms(note)) {
+            entityManager.persist(new TransactionNoteTerm(userId, term, transactionId));
+        }
+    }
+
+    // Writes only the words that changed, so an amount or date edit costs nothing
+    void reindexNote(Long userId, Long transactionId, String previousNote, String note) {
+        Set<String> removed = terms(previousNote);
+        Set<String> added = terms(note);
+        Set<String> kept = new HashSet<>(removed);
+        kept.retainAll(added);
+        removed.removeAll(kept);
+        added.removeAll(kept);
+
+        if (!removed.isEmpty()) {
+            entityManager.createQuery("DELETE FROM TransactionNoteTerm n "
+                    + "WHERE n.transactionId = :transactionId AND n.term IN :terms")
+                    .setParameter("transactionId", transactionId)
+                    .setParameter("terms", removed)
+                    .executeUpdate();
+        }
+        for (String term : added) {
+            entityManager.persist(new TransactionNoteTerm(userId, term, transactionId));
+        }
+    }
+
+    void removeNote(Long transactionId, String note) {
+        if (!terms(note).isEmpty()) {
+            entityManager.createQuery("DELETE FROM TransactionNoteTerm n WHERE n.transactionId = :transactionId")
+                    .setParameter("transactionId", transactionId)
+                    .executeUpdate();
+        }
+    }
+
+    // Up to pageSize of the user's transactions whose note matches every word of the query,
+    // newest first and older than the (beforeDate, beforeId) cursor when one is given. Each word
+    // is a range scan of the (user_id, term) primary key; the other filters apply to the
+    // transactions it points at.
+    public List<Transaction> search(Long userId, String query, Long categoryId, LocalDate from, LocalDate to,
+            LocalDate beforeDate, Long beforeId, int pageSize) {
+        List<String> terms = new ArrayList<>(terms(query));
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Search query needs a word of at least " + MIN_TERM_LENGTH + " letters or digits");
+        }
+        if (terms.size() > MAX_QUERY_TERMS) {
+            throw new IllegalArgumentException("Search query cannot have more than " + MAX_QUERY_TERMS + " words");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+
+        StringBuilder jpql = new StringBuilder("SELECT t FROM Transaction t JOIN FETCH t.category WHERE t.user.id = :userId");
+        for (int i = 0; i < terms.size(); i++) {
+            jpql.append(" AND t.id IN (SELECT n.transactionId FROM TransactionNoteTerm n")
+                    .append(" WHERE n.userId = :userId AND n.term LIKE :term").append(i).append(')');
+        }
+        if (categoryId != null) {
+            jpql.append(" AND t.category.id = :categoryId");
+        }
+        if (from != null) {
+            jpql.append(" AND t.date >= :from");
+        }
+        if (to != null) {
+            jpql.append(" AND t.date <= :to");
+        }
+        boolean hasCursor = beforeDate != null && beforeId != null;
+        if (hasCursor) {
+            jpql.append(" AND (t.date < :beforeDate OR (t.date = :beforeDate AND t.id < :beforeId))");
+        }
+        jpql.append(" ORDER BY t.date DESC, t.id DESC");
+
+        TypedQuery<Transaction> typedQuery = entityManager.createQuery(jpql.toString(), Transaction.class)
+                .setParameter("userId", userId)
+                .setMaxResults(pageSize);
+        // Terms hold letters and digits only, so no LIKE wildcard needs escaping
+        for (int i = 0; i < terms.size(); i++) {
+            typedQuery.setParameter("term" + i, terms.get(i) + "%");
+        }
+        if (categoryId != null) {
+            typedQuery.setParameter("categoryId", categoryId);
+        }
+        if (from != null) {
+            typedQuery.setParameter("from", from);
+        }
+        if (to != null) {
+            typedQuery.setParameter("to", to);
+        }
+        if (hasCursor) {
+            typedQuery.setParameter("beforeDate", beforeDate);
+            typedQuery.setParameter("beforeId", beforeId);
+        }
+        return typedQuery.getResultList();
+    }
+
+    // Indexes the notes of every transaction in id order, one committed batch at a time, then
+    // records the backfill as done. Live writes may run alongside: rows they already indexed are
+    // skipped, and rows they change after a batch read them are not indexed from the stale note.
+    public void indexExistingNotes() {
+        long afterId = 0;
+        while (true) {
+            long after = afterId;
+            List<Object[]> notes = transactionTemplate.execute(status -> {
+                List<Object[]> batch = transactionRepository.findNotesAfter(after, Limit.of(BACKFILL_BATCH_SIZE));
+                for (Object[] row : batch) {
+                    for (String term : terms((String) row[2])) {
+                        noteTermRepository.addIfUnchanged((Long) row[1], term, (Long) row[0], (Long) row[3]);
+                    }
+                }
+                return batch;
+            });
+            if (notes.isEmpty()) {
+                break;
+            }
+            afterId = (Long) notes.get(notes.size() - 1)[0];
+        }
+        transactionTemplate.executeWithoutResult(
+                status -> completedBackfillRepository.markCompleted(NOTE_INDEX_BACKFILL));
+    }
+}
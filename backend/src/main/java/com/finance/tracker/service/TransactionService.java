@@ -1,43 +1,98 @@
 package com.finance.tracker.service;
 
+import com.finance.tracker.config.MetricsConfig;
+import com.finance.tracker.dto.TransactionChanges;
+import com.finance.tracker.dto.TransactionResponse;
 import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.TransactionTombstone;
 import com.finance.tracker.model.User;
 import com.finance.tracker.model.Category;
 import com.finance.tracker.repository.TransactionRepository;
-import com.finance.tracker.repository.UserRepository;
-import com.finance.tracker.repository.CategoryRepository;
+import com.finance.tracker.repository.MonthlyTotalRepository;
+import com.finance.tracker.repository.TransactionTombstoneRepository;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class TransactionService {
 
         private final TransactionRepository transactionRepository;
-        private final UserRepository userRepository;
-        private final CategoryRepository categoryRepository;
+        private final UserService userService;
+        private final CategoryService categoryService;
+        private final MonthlyTotalRepository monthlyTotalRepository;
+        private final TransactionTombstoneRepository tombstoneRepository;
+        private final TransactionSearchService searchService;
+        private final EntityManager entityManager;
 
         public TransactionService(TransactionRepository transactionRepository,
-                        UserRepository userRepository,
-                        CategoryRepository categoryRepository) {
+                        UserService userService,
+                        CategoryService categoryService,
+                        MonthlyTotalRepository monthlyTotalRepository,
+                        TransactionTombstoneRepository tombstoneRepository,
+                        TransactionSearchService searchService,
+                        EntityManager entityManager) {
                 this.transactionRepository = transactionRepository;
-                this.userRepository = userRepository;
-                this.categoryRepository = categoryRepository;
+                this.userService = userService;
+                this.categoryService = categoryService;
+                this.monthlyTotalRepository = monthlyTotalRepository;
+                this.tombstoneRepository = tombstoneRepository;
+                this.searchService = searchService;
+                this.entityManager = entityManager;
         }
 
         public List<Transaction> listTransactionsByUser(Long userId) {
-                User user = userRepository.findById(userId)
+                User user = userService.findById(userId)
                                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
                 return transactionRepository.findByUser(user);
         }
 
+        // Returns up to pageSize transactions older than the (beforeDate, beforeId) cursor,
+        // or the newest page when no cursor is given
+        public List<Transaction> listTransactionsPage(Long userId, LocalDate beforeDate, Long beforeId,
+                        int pageSize) {
+                User user = userService.findById(userId)
+                                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
+                if (beforeDate == null || beforeId == null) {
+                        return transactionRepository.findPageByUser(user, Limit.of(pageSize));
+                }
+                return transactionRepository.findPageByUserBefore(user, beforeDate, beforeId, Limit.of(pageSize));
+        }
+
+        // Hands every transaction of the user to the action as it comes off the cursor.
+        // Rows are detached once handled so the persistence context stays flat.
+        @Transactional(readOnly = true)
+        public void streamTransactionsByUser(Long userId, Consumer<Transaction> action) {
+                User user = userService.findById(userId)
+                                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
+                try (Stream<Transaction> transactions = transactionRepository.streamByUser(user)) {
+                        transactions.forEach(transaction -> {
+                                action.accept(transaction);
+                                entityManager.detach(transaction);
+                        });
+                }
+        }
+
         public List<Transaction> listTransactionsByUserAndCategory(Long userId, Long categoryId) {
-                User user = userRepository.findById(userId)
+                User user = userService.findById(userId)
                                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
-                Category category = categoryRepository.findById(categoryId)
+                Category category = categoryService.findById(categoryId)
                                 .orElseThrow(() -> new IllegalArgumentException(
                                                 "Category not found with id: " + categoryId));
                 return transactionRepository.findByUserAndCategory(user, category);
@@ -45,7 +100,7 @@ public class TransactionService {
 
         public List<Transaction> listTransactionsByUserAndDateRange(Long userId, LocalDate startDate,
                         LocalDate endDate) {
-                User user = userRepository.findById(userId)
+                User user = userService.findById(userId)
                                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
                 return transactionRepository.findByUserAndDateBetween(user, startDate, endDate);
         }
@@ -54,11 +109,39 @@ public class TransactionService {
                 return transactionRepository.findById(id);
         }
 
+        // Rows written and ids deleted after the client's watermark. The current watermark is read
+        // first; a row stamped at or below it committed no later than the stamp itself, so each
+        // reply is a consistent cut and the next call carries on from exactly there. A client
+        // with nothing yet (since 0) needs no tombstones.
+        public TransactionChanges listChangesSince(Long userId, long since) {
+                long watermark = userService.findDataVersion(userId)
+                                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
+                if (since > watermark) {
+                        throw new IllegalArgumentException("Watermark is ahead of the server; reload all transactions");
+                }
+                if (since == watermark) {
+                        return new TransactionChanges(watermark, List.of(), List.of());
+                }
+
+                // Rows older than the change log carry stamp 0 and belong to a full sync
+                List<Transaction> transactions = transactionRepository.findChangedBetween(userId,
+                                since > 0 ? since : -1, watermark);
+                List<TransactionResponse> changed = new ArrayList<>(transactions.size());
+                for (Transaction transaction : transactions) {
+                        changed.add(TransactionResponse.from(transaction));
+                }
+                List<Long> deleted = since > 0
+                                ? tombstoneRepository.findTransactionIdsChangedBetween(userId, since, watermark)
+                                : List.of();
+                return new TransactionChanges(watermark, changed, deleted);
+        }
+
+        @Transactional
         public Transaction createTransaction(Long userId, Long categoryId, BigDecimal amount, LocalDate date,
                         String note) {
-                User user = userRepository.findById(userId)
+                User user = userService.findById(userId)
                                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
-                Category category = categoryRepository.findById(categoryId)
+                Category category = categoryService.findById(categoryId)
                                 .orElseThrow(() -> new IllegalArgumentException(
                                                 "Category not found with id: " + categoryId));
 
@@ -66,24 +149,33 @@ public class TransactionService {
                         throw new IllegalArgumentException("Amount cannot be negative");
                 }
 
+                // The user's row is locked before the rollup buckets, as on every write path
+                long changeSeq = userService.nextDataVersion(userId);
                 Transaction transaction = new Transaction(user, category, amount, date, note);
-                return transactionRepository.save(transaction);
+                transaction.setChangeSeq(changeSeq);
+                Transaction saved = transactionRepository.save(transaction);
+                searchService.indexNote(userId, saved.getId(), note);
+                addToMonthlyTotal(userId, categoryId, date, amount);
+                return saved;
         }
 
+        // Ownership is part of the lookup, the category comes from the lookup cache and the
+        // managed row is flushed as one UPDATE, plus the rollup upserts. A version conflict at
+        // commit reruns the whole method so the rollup delta is recomputed from the winner's row;
+        // a stale expectedVersion from the client is reported instead.
+        @Retryable(retryFor = ObjectOptimisticLockingFailureException.class, maxAttempts = 4,
+                        backoff = @Backoff(delay = 10, maxDelay = 100, random = true))
+        @Transactional
         public Transaction updateTransaction(Long id, Long userId, Long categoryId, BigDecimal amount, LocalDate date,
-                        String note) {
-                Transaction transaction = transactionRepository.findById(id)
+                        String note, Long expectedVersion) {
+                Transaction transaction = transactionRepository.findByIdAndUserId(id, userId)
                                 .orElseThrow(() -> new IllegalArgumentException(
                                                 "Transaction not found with id: " + id));
-
-                // Verify the transaction belongs to the user
-                if (!transaction.getUser().getId().equals(userId)) {
-                        throw new IllegalArgumentException("Transaction does not belong to the specified user");
+                if (expectedVersion != null && !expectedVersion.equals(transaction.getVersion())) {
+                        throw new OptimisticLockingFailureException(
+                                        "Transaction was changed by another request; reload and try again");
                 }
-
-                User user = userRepository.findById(userId)
-                                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
-                Category category = categoryRepository.findById(categoryId)
+                Category category = categoryService.findById(categoryId)
                                 .orElseThrow(() -> new IllegalArgumentException(
                                                 "Category not found with id: " + categoryId));
 
@@ -91,45 +183,109 @@ public class TransactionService {
                         throw new IllegalArgumentException("Amount cannot be negative");
                 }
 
-                transaction.setUser(user);
+                long changeSeq = userService.nextDataVersion(userId);
+                Long previousCategoryId = transaction.getCategory().getId();
+                LocalDate previousDate = transaction.getDate();
+                BigDecimal previousAmount = transaction.getAmount();
+                searchService.reindexNote(userId, id, transaction.getNote(), note);
+
                 transaction.setCategory(category);
                 transaction.setAmount(amount);
                 transaction.setDate(date);
                 transaction.setNote(note);
+                transaction.setChangeSeq(changeSeq);
 
-                return transactionRepository.save(transaction);
+                // Move the amount between rollup buckets when the category or month changed
+                if (previousCategoryId.equals(categoryId)
+                                && YearMonth.from(previousDate).equals(YearMonth.from(date))) {
+                        addToMonthlyTotal(userId, categoryId, date, amount.subtract(previousAmount));
+                } else {
+                        addToMonthlyTotal(userId, previousCategoryId, previousDate, previousAmount.negate());
+                        addToMonthlyTotal(userId, categoryId, date, amount);
+                }
+                return transaction;
         }
 
+        @Retryable(retryFor = ObjectOptimisticLockingFailureException.class, maxAttempts = 4,
+                        backoff = @Backoff(delay = 10, maxDelay = 100, random = true))
+        @Transactional
         public void deleteTransaction(Long id, Long userId) {
-                Transaction transaction = transactionRepository.findById(id)
+                // The row is needed anyway for its rollup bucket, so it is loaded once, scoped to the
+                // owner, and removed by primary key. The tombstone tells syncing clients it is gone.
+                Transaction transaction = transactionRepository.findByIdAndUserId(id, userId)
                                 .orElseThrow(() -> new IllegalArgumentException(
                                                 "Transaction not found with id: " + id));
 
-                // Verify the transaction belongs to the user
-                if (!transaction.getUser().getId().equals(userId)) {
-                        throw new IllegalArgumentException("Transaction does not belong to the specified user");
-                }
-
-                transactionRepository.deleteById(id);
+                long changeSeq = userService.nextDataVersion(userId);
+                transactionRepository.delete(transaction);
+                entityManager.persist(new TransactionTombstone(id, userId, changeSeq));
+                searchService.removeNote(id, transaction.getNote());
+                addToMonthlyTotal(userId, transaction.getCategory().getId(), transaction.getDate(),
+                                transaction.getAmount().negate());
         }
 
         public BigDecimal getTotalAmountByUserAndDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
-                User user = userRepository.findById(userId)
+                User user = userService.findById(userId)
                                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
-                BigDecimal total = transactionRepository.sumAmountByUserAndDateBetween(user, startDate, endDate);
-                return total != null ? total : BigDecimal.ZERO;
+                return sumDateRange(user, null, startDate, endDate);
         }
 
         public BigDecimal getTotalAmountByUserAndCategoryAndDateRange(Long userId, Long categoryId, LocalDate startDate,
                         LocalDate endDate) {
-                User user = userRepository.findById(userId)
+                User user = userService.findById(userId)
                                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
-                Category category = categoryRepository.findById(categoryId)
+                Category category = categoryService.findById(categoryId)
                                 .orElseThrow(() -> new IllegalArgumentException(
                                                 "Category not found with id: " + categoryId));
-                BigDecimal total = transactionRepository.sumAmountByUserAndCategoryAndDateBetween(user, category,
-                                startDate,
-                                endDate);
+                return sumDateRange(user, category, startDate, endDate);
+        }
+
+        private void addToMonthlyTotal(Long userId, Long categoryId, LocalDate date, BigDecimal delta) {
+                if (delta.signum() == 0) {
+                        return;
+                }
+                monthlyTotalRepository.addToTotal(userId, categoryId, date.withDayOfMonth(1), delta);
+        }
+
+        // Whole months in the range are read from the rollup; only the partial months at
+        // either edge are summed from raw transaction rows
+        private BigDecimal sumDateRange(User user, Category category, LocalDate startDate, LocalDate endDate) {
+                if (startDate.isAfter(endDate)) {
+                        return BigDecimal.ZERO;
+                }
+
+                LocalDate firstFullMonth = startDate.getDayOfMonth() == 1 ? startDate
+                                : startDate.plusMonths(1).withDayOfMonth(1);
+                YearMonth endMonth = YearMonth.from(endDate);
+                LocalDate lastFullMonth = endDate.equals(endMonth.atEndOfMonth()) ? endMonth.atDay(1)
+                                : endMonth.minusMonths(1).atDay(1);
+
+                if (firstFullMonth.isAfter(lastFullMonth)) {
+                        return sumRawDateRange(user, category, startDate, endDate);
+                }
+
+                BigDecimal total = category == null
+                                ? monthlyTotalRepository.sumTotalByUserAndMonthBetween(user.getId(), firstFullMonth,
+                                                lastFullMonth)
+                                : monthlyTotalRepository.sumTotalByUserAndCategoryAndMonthBetween(user.getId(),
+                                                category.getId(), firstFullMonth, lastFullMonth);
+                total = total != null ? total : BigDecimal.ZERO;
+
+                if (startDate.isBefore(firstFullMonth)) {
+                        total = total.add(sumRawDateRange(user, category, startDate, firstFullMonth.minusDays(1)));
+                }
+                LocalDate afterLastFullMonth = lastFullMonth.plusMonths(1);
+                if (!endDate.isBefore(afterLastFullMonth)) {
+                        total = total.add(sumRawDateRange(user, category, afterLastFullMonth, endDate));
+                }
+                return total;
+        }
+
+        private BigDecimal sumRawDateRange(User user, Category category, LocalDate startDate, LocalDate endDate) {
+                BigDecimal total = category == null
+                                ? transactionRepository.sumAmountByUserAndDateBetween(user, startDate, endDate)
+                                : transactionRepository.sumAmountByUserAndCategoryAndDateBetween(user, category,
+                                                startDate, endDate);
                 return total != null ? total : BigDecimal.ZERO;
         }
 }
\ No newline at end of file
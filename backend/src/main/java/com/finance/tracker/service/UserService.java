@@ -1,19 +1,39 @@
 package com.finance.tracker.service;
 
+import com.finance.tracker.config.CacheConfig;
+import com.finance.tracker.config.MetricsConfig;
 import com.finance.tracker.model.User;
 import com.finance.tracker.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class UserService {
 
+    static final int PASSWORD_RESET_BATCH_SIZE = 50;
+
     private final UserRepository userRepository;
+    private final PasswordService passwordService;
+    private final TransactionTemplate transactionTemplate;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository,
+            PasswordService passwordService,
+            PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
+        this.passwordService = passwordService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     public User registerUser(String username, String password) {
@@ -21,14 +41,67 @@ public class UserService {
             throw new IllegalArgumentException("Username already exists: " + username);
         }
 
-        User user = new User(username, password);
+        User user = new User(username, passwordService.hash(password));
         return userRepository.save(user);
     }
 
+    // Verifies the credentials and upgrades legacy plaintext rows and hashes of a lower cost
+    // in place. No transaction or connection is held while BCrypt runs.
+    public Optional<User> authenticate(String username, String password) {
+        Optional<User> userOptional = userRepository.findByUsername(username);
+        if (userOptional.isEmpty() || !passwordService.matches(password, userOptional.get().getPassword())) {
+            return Optional.empty();
+        }
+
+        User user = userOptional.get();
+        if (passwordService.needsRehash(user.getPassword())) {
+            String rehashed = passwordService.hash(password);
+            if (userRepository.replacePassword(user.getId(), user.getPassword(), rehashed) == 1) {
+                user.setPassword(rehashed);
+            }
+        }
+        return Optional.of(user);
+    }
+
+    // Gives every user without a usable password the default one, walking the table in keyset
+    // batches. Hashes are made one at a time before each batch's transaction opens, so the job
+    // never holds a connection during BCrypt or crowds logins out of the hash pool.
+    @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true)
+    public int resetMissingPasswords(String defaultPassword) {
+        int reset = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Long> ids = userRepository.findIdsWithoutPasswordAfter(afterId,
+                    Limit.of(PASSWORD_RESET_BATCH_SIZE));
+            if (ids.isEmpty()) {
+                return reset;
+            }
+
+            Map<Long, String> hashes = new HashMap<>();
+            for (Long id : ids) {
+                hashes.put(id, passwordService.hash(defaultPassword));
+            }
+            reset += transactionTemplate.execute(status -> {
+                int updated = 0;
+                for (User user : userRepository.findAllById(ids)) {
+                    // Skip rows given a password since the batch was selected
+                    if (user.getPassword() == null || user.getPassword().trim().isEmpty()) {
+                        user.setPassword(hashes.get(user.getId()));
+                        updated++;
+                    }
+                }
+                return updated;
+            });
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
     }
 
+    // Cached instances are detached and shared; callers only read them or use them as references
+    @Cacheable(cacheNames = CacheConfig.USERS, unless = "#result == null")
     public Optional<User> findById(Long id) {
         return userRepository.findById(id);
     }
@@ -37,6 +110,26 @@ public class UserService {
         return userRepository.existsByUsername(username);
     }
 
+    // Called by every write that changes what the user's listings return
+    public void markDataChanged(Long userId) {
+        userRepository.incrementDataVersion(userId);
+    }
+
+    // Bumps the change stamp and returns the new value for the caller to stamp on the rows it
+    // writes. The bump holds the user's row lock until commit, so stamps commit in order.
+    public long nextDataVersion(Long userId) {
+        if (userRepository.incrementDataVersion(userId) == 0) {
+            throw new IllegalArgumentException("User not found with id: " + userId);
+        }
+        return userRepository.findDataVersion(userId).orElseThrow();
+    }
+
+    // Read straight from the row, never from the users cache, so it is current on every instance
+    public Optional<Long> findDataVersion(Long userId) {
+        return userRepository.findDataVersion(userId);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#userId")
     public User updateUserProfile(Long userId, String displayName, String preferredCurrency,
             BigDecimal monthlyIncomeGoal) {
         Optional<User> userOptional = userRepository.findById(userId);
@@ -58,10 +151,7 @@ public class UserService {
         return userRepository.save(user);
     }
 
-    public java.util.List<User> getAllUsers() {
-        return userRepository.findAll();
-    }
-
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#user.id", condition = "#user.id != null")
     public User saveUser(User user) {
         return userRepository.save(user);
     }
@@ -0,0 +1,43 @@
+-- Schema as created by ddl-auto=update before migrations were introduced.
+-- Existing databases are baselined at this version and skip it.
+-- ${category_type_column} is ENUM('INCOME','EXPENSE') on MySQL, matching Hibernate's enum mapping there.
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    display_name VARCHAR(255),
+    preferred_currency VARCHAR(3),
+    monthly_income_goal DECIMAL(19,2),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+CREATE TABLE categories (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    type ${category_type_column} NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE transactions (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    amount DECIMAL(10,2) NOT NULL,
+    date DATE NOT NULL,
+    note VARCHAR(500),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_transactions_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_transactions_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE budgets (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    monthly_limit DECIMAL(10,2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_budgets_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_budgets_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
@@ -0,0 +1,37 @@
+-- Pooled id blocks: one row per table holding the next unallocated id.
+-- Seeded past existing rows; AUTO_INCREMENT on the id columns is left in place but unused.
+CREATE TABLE users_seq (next_val BIGINT);
+INSERT INTO users_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM users;
+
+CREATE TABLE categories_seq (next_val BIGINT);
+INSERT INTO categories_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM categories;
+
+CREATE TABLE transactions_seq (next_val BIGINT);
+INSERT INTO transactions_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM transactions;
+
+CREATE TABLE budgets_seq (next_val BIGINT);
+INSERT INTO budgets_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM budgets;
+
+-- Per user, category and month totals, seeded here from the existing transactions. Flyway
+-- holds its lock and the app serves nothing yet, so no live write can race the seed.
+CREATE TABLE monthly_totals (
+    user_id BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    month_start DATE NOT NULL,
+    total DECIMAL(19,2) NOT NULL,
+    PRIMARY KEY (user_id, category_id, month_start)
+);
+INSERT INTO monthly_totals (user_id, category_id, month_start, total)
+SELECT user_id, category_id, CAST(CONCAT(YEAR(date), '-', LPAD(MONTH(date), 2, '0'), '-01') AS DATE), SUM(amount)
+FROM transactions
+GROUP BY user_id, category_id, CAST(CONCAT(YEAR(date), '-', LPAD(MONTH(date), 2, '0'), '-01') AS DATE);
+
+CREATE INDEX idx_transactions_user_date_id ON transactions (user_id, date DESC, id DESC, amount);
+CREATE INDEX idx_transactions_user_category_date ON transactions (user_id, category_id, date, amount);
+
+-- Earlier versions allowed several budgets per user and category; keep only the latest of each
+-- (the derived table lets MySQL read the table it deletes from)
+DELETE FROM budgets WHERE id NOT IN (
+    SELECT id FROM (SELECT MAX(id) AS id FROM budgets GROUP BY user_id, category_id) latest
+);
+ALTER TABLE budgets ADD CONSTRAINT uk_budgets_user_category UNIQUE (user_id, category_id);
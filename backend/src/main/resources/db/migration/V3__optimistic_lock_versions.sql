@@ -0,0 +1,3 @@
+-- Optimistic lock counters; existing rows start at version 0
+ALTER TABLE transactions ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE budgets ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- Per-user change stamp, bumped by every transaction and budget write; listing ETags are built from it
+ALTER TABLE users ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- Delta sync: every transaction row carries the users.data_version of its last write, and
+-- deletes leave a tombstone stamped the same way. Existing rows predate any client watermark.
+ALTER TABLE transactions ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+CREATE INDEX idx_transactions_user_change_seq ON transactions (user_id, change_seq);
+
+CREATE TABLE transaction_tombstones (
+    transaction_id BIGINT NOT NULL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    change_seq BIGINT NOT NULL
+);
+CREATE INDEX idx_transaction_tombstones_user_change_seq ON transaction_tombstones (user_id, change_seq);
@@ -0,0 +1,16 @@
+-- Inverted index over transaction notes: one row per distinct word of a note, lower-cased with
+-- accents stripped. The key answers a prefix lookup for one user (term LIKE 'abc%') as a range scan.
+-- The application decides which words are equal; a binary collation keeps MySQL's default one
+-- from merging words it keeps apart.
+CREATE TABLE transaction_note_terms (
+    user_id BIGINT NOT NULL,
+    term VARCHAR(64) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    transaction_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, term, transaction_id)
+);
+CREATE INDEX idx_transaction_note_terms_transaction ON transaction_note_terms (transaction_id);
+
+-- One-off data backfills that have run to completion, so startup does not repeat them
+CREATE TABLE completed_backfills (
+    name VARCHAR(64) NOT NULL PRIMARY KEY
+);
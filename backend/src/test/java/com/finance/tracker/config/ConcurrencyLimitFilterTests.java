@@ -0,0 +1,97 @@
+package com.finance.tracker.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTests {
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, 50);
+
+    @Test
+    void requestBeyondTheLimitIsShedWith503() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            try {
+                filter.doFilter(apiRequest(), response, (req, res) -> {
+                    entered.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return response;
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), shed, (req, res) -> {
+            throw new AssertionError("limited request must not reach the controller");
+        });
+
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(shed.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(filter.getInFlight()).isEqualTo(1);
+        assertThat(filter.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        assertThat(filter.getInFlight()).isZero();
+    }
+
+    @Test
+    void staticResourcesBypassTheLimiter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/index.html");
+        request.setServletPath("/index.html");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+            assertThat(filter.getInFlight()).isZero();
+        });
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(filter.getRejectedCount()).isZero();
+    }
+
+    // The container routes on the decoded path, so the limiter must too
+    @Test
+    void encodedApiPathIsLimited() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/%61pi/dashboard");
+        request.setServletPath("/api/dashboard");
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            assertThat(filter.getInFlight()).isEqualTo(1);
+        });
+
+        assertThat(filter.getInFlight()).isZero();
+    }
+
+    @Test
+    void streamedResponseHoldsItsPermitUntilComplete() throws Exception {
+        MockHttpServletRequest request = apiRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+
+        assertThat(filter.getInFlight()).isEqualTo(1);
+
+        request.getAsyncContext().complete();
+        assertThat(filter.getInFlight()).isZero();
+    }
+
+    private static MockHttpServletRequest apiRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dashboard");
+        request.setServletPath("/api/dashboard");
+        return request;
+    }
+}
@@ -0,0 +1,47 @@
+package com.finance.tracker.config;
+
+import com.finance.tracker.service.SessionTokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// With no permits at all, only requests that pass the token check can be shed
+@SpringBootTest(properties = { "finance.concurrency.max-in-flight=0", "finance.concurrency.queue-timeout-ms=0" })
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class ConcurrencyLimitOrderTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    @Autowired
+    private SessionTokenService sessionTokenService;
+
+    @Test
+    void unauthenticatedRequestIsRejectedBeforeTheLimiter() throws Exception {
+        long rejectedBefore = concurrencyLimitFilter.getRejectedCount();
+
+        mockMvc.perform(get("/api/dashboard")).andExpect(status().isUnauthorized());
+
+        assertThat(concurrencyLimitFilter.getRejectedCount()).isEqualTo(rejectedBefore);
+    }
+
+    @Test
+    void authenticatedRequestReachesTheLimiter() throws Exception {
+        String bearer = "Bearer " + sessionTokenService.issue(1L);
+
+        mockMvc.perform(get("/api/dashboard").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
@@ -0,0 +1,43 @@
+package com.finance.tracker.config;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorrelationIdFilterTests {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter();
+
+    @Test
+    void callerSuppliedIdIsLoggedAndEchoed() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dashboard");
+        request.addHeader(CorrelationIdFilter.HEADER, "edge-7f3a.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> logged = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> logged.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+
+        assertThat(logged.get()).isEqualTo("edge-7f3a.1");
+        assertThat(response.getHeader(CorrelationIdFilter.HEADER)).isEqualTo("edge-7f3a.1");
+        assertThat(MDC.get(CorrelationIdFilter.MDC_KEY)).isNull();
+    }
+
+    @Test
+    void missingOrMalformedIdIsReplaced() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dashboard");
+        request.addHeader(CorrelationIdFilter.HEADER, "bad id\nforged log line");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> logged = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> logged.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+
+        assertThat(logged.get()).matches("[0-9a-f]{16}");
+        assertThat(response.getHeader(CorrelationIdFilter.HEADER)).isEqualTo(logged.get());
+        assertThat(MDC.get(CorrelationIdFilter.MDC_KEY)).isNull();
+    }
+}
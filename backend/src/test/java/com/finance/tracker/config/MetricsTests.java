@@ -0,0 +1,115 @@
+package com.finance.tracker.config;
+
+import com.finance.tracker.model.User;
+import com.finance.tracker.service.CategoryService;
+import com.finance.tracker.service.UserService;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// On a real server: the actuator lives on its own port, which a mock environment does not start
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability
+class MetricsTests {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Test
+    void serviceAndRepositoryCallsAreTimedByClassAndMethod() {
+        User user = userService.registerUser("metrics-user-" + System.nanoTime(), "secret");
+        userService.findByUsername(user.getUsername());
+        categoryService.listAllCategories();
+
+        Timer service = registry.find(MetricsConfig.SERVICE_TIMER)
+                .tag("class", "com.finance.tracker.service.UserService")
+                .tag("method", "findByUsername")
+                .timer();
+        assertThat(service).isNotNull();
+        assertThat(service.count()).isPositive();
+
+        Timer repository = registry.find("spring.data.repository.invocations")
+                .tag("repository", "UserRepository")
+                .tag("method", "findByUsername")
+                .timer();
+        assertThat(repository).isNotNull();
+        assertThat(repository.count()).isPositive();
+    }
+
+    @Test
+    void poolHibernateAndLimiterMetersAreRegistered() {
+        assertThat(registry.find("hikaricp.connections.active").gauge()).isNotNull();
+        assertThat(registry.find("hibernate.statements").functionCounter()).isNotNull();
+        assertThat(registry.find("hibernate.entities.loads").functionCounter()).isNotNull();
+        assertThat(registry.find("finance.api.inflight").gauge()).isNotNull();
+        assertThat(registry.find("finance.api.rejected").functionCounter()).isNotNull();
+    }
+
+    @Test
+    void noInstrumentIsTaggedWithPerRequestValues() {
+        userService.registerUser("metrics-tags-" + System.nanoTime(), "secret");
+
+        Set<String> tagKeys = registry.getMeters().stream()
+                .map(Meter::getId)
+                .flatMap(id -> id.getTags().stream())
+                .map(tag -> tag.getKey())
+                .collect(Collectors.toSet());
+        assertThat(tagKeys).doesNotContain("userId", "username", "query", "sql");
+    }
+
+    @Test
+    void prometheusEndpointIsScrapeable() throws Exception {
+        categoryService.listAllCategories();
+
+        HttpResponse<String> response = get(managementPort, "/actuator/prometheus");
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("finance_service_seconds_bucket", "hikaricp_connections_active",
+                "application=\"finance-tracker\"");
+    }
+
+    @Test
+    void publicPortServesProbesButNoActuatorEndpoints() throws Exception {
+        assertThat(get(port, "/livez").statusCode()).isEqualTo(200);
+        assertThat(get(port, "/readyz").statusCode()).isEqualTo(200);
+        for (String path : new String[] { "/actuator/prometheus", "/actuator/metrics", "/actuator/info" }) {
+            // Unmatched paths fall through to the SPA's index.html, never to the endpoint
+            assertThat(get(port, path).body()).as(path).doesNotContain("finance_service", "\"names\"");
+        }
+    }
+
+    private HttpResponse<String> get(int port, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
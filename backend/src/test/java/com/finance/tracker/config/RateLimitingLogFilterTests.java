@@ -0,0 +1,27 @@
+package com.finance.tracker.config;
+
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitingLogFilterTests {
+
+    @Test
+    void passesAtMostTheLimitInEachSecond() {
+        RateLimitingLogFilter filter = new RateLimitingLogFilter();
+        filter.setMaxPerSecond(2);
+
+        assertThat(filter.decide(eventAt(10_000))).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(eventAt(10_400))).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(eventAt(10_900))).isEqualTo(FilterReply.DENY);
+        assertThat(filter.decide(eventAt(11_000))).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private static LoggingEvent eventAt(long timestamp) {
+        LoggingEvent event = new LoggingEvent();
+        event.setTimeStamp(timestamp);
+        return event;
+    }
+}
@@ -0,0 +1,52 @@
+package com.finance.tracker.config;
+
+import com.finance.tracker.service.SessionTokenService;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Per-request cost of resolving the user from the bearer token, against a filter chain that does
+// nothing. Excluded from the default build; run with:
+//   mvn test -Dgroups=benchmark -DexcludedGroups=none -Dtest=SessionTokenFilterBenchmarkTests
+@Tag("benchmark")
+class SessionTokenFilterBenchmarkTests {
+
+    private static final int WARMUP = 200_000;
+    private static final int REQUESTS = 1_000_000;
+
+    @Test
+    void verificationOverheadPerRequest() throws Exception {
+        SessionTokenService tokens = new SessionTokenService(Base64.getEncoder().encodeToString(new byte[32]), 60);
+        SessionTokenFilter filter = new SessionTokenFilter(tokens);
+        String bearer = "Bearer " + tokens.issue(42L);
+        FilterChain chain = (request, response) -> {
+        };
+
+        run(filter, bearer, chain, WARMUP);
+        long start = System.nanoTime();
+        long resolved = run(filter, bearer, chain, REQUESTS);
+        double nanos = (System.nanoTime() - start) / (double) REQUESTS;
+
+        System.out.printf("Session token filter: %.2f us per request (%.0f requests/s on one thread)%n",
+                nanos / 1000, 1e9 / nanos);
+        assertThat(resolved).isEqualTo(42L * REQUESTS);
+    }
+
+    private long run(SessionTokenFilter filter, String bearer, FilterChain chain, int count) throws Exception {
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dashboard");
+            request.addHeader(HttpHeaders.AUTHORIZATION, bearer);
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            sum += (Long) request.getAttribute(SessionTokenFilter.USER_ID);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,49 @@
+package com.finance.tracker.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Against a real Tomcat, which decodes and normalizes the path before Spring MVC routes it
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class SessionTokenFilterTests {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void encodedOrUnnormalizedApiPathsStillNeedAToken() throws Exception {
+        for (String path : new String[] { "/api/admin/pool", "/%61pi/admin/pool", "/api/admin/%70ool",
+                "/static/../api/admin/pool", "/api/./categories", "//api/categories",
+                "/api;x=1/admin/caches/second-level" }) {
+            HttpResponse<String> response = get(path);
+            assertThat(response.statusCode()).as(path).isEqualTo(401);
+            assertThat(response.headers().firstValue(HttpHeaders.WWW_AUTHENTICATE)).as(path).hasValue("Bearer");
+        }
+    }
+
+    @Test
+    void onlyTheExactPublicEndpointsSkipTheToken() throws Exception {
+        assertThat(get("/api/auth/test").statusCode()).isEqualTo(200);
+        assertThat(get("/%61pi/auth/test").statusCode()).isEqualTo(200);
+        assertThat(get("/health").statusCode()).isEqualTo(200);
+        assertThat(get("/api/auth/test/").statusCode()).isEqualTo(401);
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,116 @@
+package com.finance.tracker.config;
+
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.User;
+import com.finance.tracker.service.CategoryService;
+import com.finance.tracker.service.SessionTokenService;
+import com.finance.tracker.service.TransactionService;
+import com.finance.tracker.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Against a real Tomcat, which is where response compression happens
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class StaticResourceTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private SessionTokenService sessionTokenService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void hashedAssetsAreCachedForAYear() throws Exception {
+        // A test asset; the bundle's own hash changes with every frontend build
+        HttpResponse<String> response = get("/static/js/precompressed.js", "identity");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CACHE_CONTROL))
+                .hasValue("max-age=31536000, public, immutable");
+    }
+
+    @Test
+    void missingHashedAssetIsNotFound() throws Exception {
+        assertThat(get("/static/js/main.00000000.js", "identity").statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    void clientRoutesGetTheShellRevalidatedEachTime() throws Exception {
+        HttpResponse<String> response = get("/transactions", "identity");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("<div id=\"root\">");
+        assertThat(response.headers().firstValue(HttpHeaders.CACHE_CONTROL)).hasValue("no-cache");
+    }
+
+    @Test
+    void precompressedSiblingIsPreferred() throws Exception {
+        HttpResponse<String> response = get("/static/js/precompressed.js", "br, gzip");
+
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(response.headers().allValues(HttpHeaders.VARY)).anyMatch(v -> v.contains("Accept-Encoding"));
+    }
+
+    @Test
+    void jsonListingsAreCompressedAndStillRevalidate() throws Exception {
+        User user = userService.registerUser("gzip-user-" + System.nanoTime(), "secret");
+        Category food = categoryService.findByName("Food").orElseThrow();
+        for (int i = 0; i < 30; i++) {
+            transactionService.createTransaction(user.getId(), food.getId(), BigDecimal.TEN,
+                    LocalDate.of(2024, 6, 1).plusDays(i), "groceries");
+        }
+        String bearer = "Bearer " + sessionTokenService.issue(user.getId());
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/api/transactions"))
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+
+        // Listing tags are weak, which is what lets Tomcat compress them at all
+        String etag = response.headers().firstValue(HttpHeaders.ETAG).orElseThrow();
+        assertThat(etag).startsWith("W/");
+        HttpResponse<String> revalidated = client.send(HttpRequest.newBuilder(uri("/api/transactions"))
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(revalidated.statusCode()).isEqualTo(304);
+    }
+
+    private HttpResponse<String> get(String path, String acceptEncoding) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path))
+                .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding)
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
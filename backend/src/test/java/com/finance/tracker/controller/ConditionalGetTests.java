@@ -0,0 +1,151 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.User;
+import com.finance.tracker.service.BudgetService;
+import com.finance.tracker.service.CategoryService;
+import com.finance.tracker.service.SessionTokenService;
+import com.finance.tracker.service.TransactionService;
+import com.finance.tracker.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Transactional
+class ConditionalGetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private SessionTokenService sessionTokenService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Category food;
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.registerUser("etag-user", "secret");
+        food = categoryService.findByName("Food").orElseThrow();
+        bearer = "Bearer " + sessionTokenService.issue(user.getId());
+        transactionService.createTransaction(user.getId(), food.getId(), BigDecimal.TEN, LocalDate.of(2024, 6, 1),
+                null);
+    }
+
+    @Test
+    void matchingTagIsAnsweredWithoutRunningTheListing() throws Exception {
+        String etag = etagOf("/api/transactions", bearer);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(get("/api/transactions").header(HttpHeaders.AUTHORIZATION, bearer)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        // Only the change stamp lookup
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void transactionWritesChangeTheTag() throws Exception {
+        String before = etagOf("/api/transactions", bearer);
+        String dashboardBefore = etagOf("/api/dashboard", bearer);
+
+        transactionService.createTransaction(user.getId(), food.getId(), BigDecimal.ONE, LocalDate.of(2024, 6, 2),
+                null);
+
+        mockMvc.perform(get("/api/transactions").header(HttpHeaders.AUTHORIZATION, bearer)
+                .header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk());
+        assertThat(etagOf("/api/transactions", bearer)).isNotEqualTo(before);
+        assertThat(etagOf("/api/dashboard", bearer)).isNotEqualTo(dashboardBefore);
+    }
+
+    @Test
+    void budgetWritesChangeTheTag() throws Exception {
+        String before = etagOf("/api/budgets", bearer);
+        mockMvc.perform(get("/api/budgets").header(HttpHeaders.AUTHORIZATION, bearer)
+                .header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isNotModified());
+
+        budgetService.createBudget(user.getId(), food.getId(), new BigDecimal("200"));
+
+        mockMvc.perform(get("/api/budgets").header(HttpHeaders.AUTHORIZATION, bearer)
+                .header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void anotherUsersTagNeverMatches() throws Exception {
+        User other = userService.registerUser("etag-other", "secret");
+        String otherBearer = "Bearer " + sessionTokenService.issue(other.getId());
+        String etag = etagOf("/api/transactions", bearer);
+
+        mockMvc.perform(get("/api/transactions").header(HttpHeaders.AUTHORIZATION, otherBearer)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"));
+    }
+
+    @Test
+    void categoryChangesInvalidateCategoryAndListingTags() throws Exception {
+        String categories = etagOf("/api/categories", bearer);
+        String transactions = etagOf("/api/transactions", bearer);
+        mockMvc.perform(get("/api/categories").header(HttpHeaders.AUTHORIZATION, bearer)
+                .header(HttpHeaders.IF_NONE_MATCH, categories))
+                .andExpect(status().isNotModified());
+
+        categoryService.createCategory("Etag Hobbies " + System.nanoTime(), Category.CategoryType.EXPENSE);
+
+        assertThat(etagOf("/api/categories", bearer)).isNotEqualTo(categories);
+        assertThat(etagOf("/api/transactions", bearer)).isNotEqualTo(transactions);
+    }
+
+    private String etagOf(String path, String authorization) throws Exception {
+        String etag = mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"");
+        return etag;
+    }
+}
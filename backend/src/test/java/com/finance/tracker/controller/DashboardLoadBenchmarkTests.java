@@ -0,0 +1,122 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.User;
+import com.finance.tracker.service.CategoryService;
+import com.finance.tracker.service.SessionTokenService;
+import com.finance.tracker.service.TransactionService;
+import com.finance.tracker.service.UserService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Bursty dashboard load against a real Tomcat. Excluded from the default build; run with
+//   mvn test -Dgroups=benchmark -DexcludedGroups=none -Dtest=DashboardLoadBenchmarkTests
+// and add -Dspring.threads.virtual.enabled=true on a Java 21 runtime to compare the two modes.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Tag("benchmark")
+class DashboardLoadBenchmarkTests {
+
+    private static final int CLIENTS = 200;
+    private static final int REQUESTS = 4_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private SessionTokenService sessionTokenService;
+
+    @Test
+    void burstOfDashboardRequests() throws Exception {
+        User user = userService.registerUser("load-user-" + System.nanoTime(), "secret");
+        Category food = categoryService.findByName("Food").orElseThrow();
+        for (int i = 0; i < 500; i++) {
+            transactionService.createTransaction(user.getId(), food.getId(), BigDecimal.ONE,
+                    LocalDate.of(2024, 1, 1).plusDays(i % 180), null);
+        }
+
+        HttpClient client = HttpClient.newBuilder().executor(Executors.newFixedThreadPool(CLIENTS)).build();
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/api/dashboard?month=2024-06"))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + sessionTokenService.issue(user.getId()))
+                .build();
+        // Warm-up so JIT and pools are in steady state before measuring
+        send(client, request, 500, new AtomicInteger(), new AtomicInteger());
+
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger shed = new AtomicInteger();
+        long start = System.nanoTime();
+        List<Long> latencies = send(client, request, REQUESTS, ok, shed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Collections.sort(latencies);
+        System.out.printf("java %d, virtual threads %s: %d requests from %d clients in %.2fs (%.0f req/s), "
+                + "200=%d 503=%d, p50=%dms p99=%dms max=%dms%n",
+                Runtime.version().feature(), virtualThreads && Runtime.version().feature() >= 21, REQUESTS, CLIENTS,
+                seconds, REQUESTS / seconds, ok.get(), shed.get(), percentile(latencies, 50),
+                percentile(latencies, 99), latencies.get(latencies.size() - 1));
+    }
+
+    private List<Long> send(HttpClient client, HttpRequest request, int count, AtomicInteger ok,
+            AtomicInteger shed) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<Long>> futures = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                futures.add(callers.submit(() -> {
+                    long sent = System.nanoTime();
+                    int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    if (status == 200) {
+                        ok.incrementAndGet();
+                    } else if (status == 503) {
+                        shed.incrementAndGet();
+                    }
+                    return (System.nanoTime() - sent) / 1_000_000;
+                }));
+            }
+            List<Long> latencies = new ArrayList<>(count);
+            for (Future<Long> future : futures) {
+                latencies.add(future.get());
+            }
+            return latencies;
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private static long percentile(List<Long> sorted, int percentile) {
+        return sorted.get(Math.min(sorted.size() - 1, sorted.size() * percentile / 100));
+    }
+}
@@ -0,0 +1,169 @@
+package com.finance.tracker.controller;
+
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.User;
+import com.finance.tracker.service.CategoryService;
+import com.finance.tracker.service.SessionTokenService;
+import com.finance.tracker.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Transactional
+class TransactionControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private SessionTokenService sessionTokenService;
+
+    private User user;
+    private Category salary;
+    private String bearer;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.registerUser("controller-user", "secret");
+        salary = categoryService.findByName("Salary").orElseThrow();
+        bearer = "Bearer " + sessionTokenService.issue(user.getId());
+    }
+
+    @Test
+    void createdTransactionIsListedWithDerivedFields() throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"categoryId\":" + salary.getId()
+                        + ",\"amount\":2500.75,\"date\":\"2024-07-01\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.type").value("income"))
+                .andExpect(jsonPath("$.description").value("Transaction"));
+
+        mockMvc.perform(get("/api/transactions").header(HttpHeaders.AUTHORIZATION, bearer).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TransactionController.NEXT_CURSOR_HEADER,
+                        startsWith("2024-07-01:")))
+                .andExpect(jsonPath("$[0].amount").value(2500.75))
+                .andExpect(jsonPath("$[0].date").value("2024-07-01"))
+                .andExpect(jsonPath("$[0].category").value("Salary"))
+                .andExpect(jsonPath("$[0].categoryId").value(salary.getId()));
+    }
+
+    @Test
+    void malformedFieldsAreRejectedWithMessages() throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"categoryId\":" + salary.getId()
+                        + ",\"amount\":10,\"date\":\"07/01/2024\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Invalid date format. Use YYYY-MM-DD"));
+
+        mockMvc.perform(post("/api/transactions")
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"amount\":10,\"date\":\"2024-07-01\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Category ID is required"));
+    }
+
+    @Test
+    void requestsWithoutAValidTokenAreRejected() throws Exception {
+        mockMvc.perform(get("/api/transactions").param("userId", user.getId().toString()))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, "Bearer"));
+
+        mockMvc.perform(get("/api/transactions").header(HttpHeaders.AUTHORIZATION, bearer + "x"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().string("Invalid or expired session"));
+    }
+
+    @Test
+    void userIdParameterCannotSelectAnotherUser() throws Exception {
+        User other = userService.registerUser("controller-other", "secret");
+        mockMvc.perform(post("/api/transactions")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + sessionTokenService.issue(other.getId()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"categoryId\":" + salary.getId() + ",\"amount\":5,\"date\":\"2024-07-02\"}"))
+                .andExpect(status().isCreated());
+
+        // The token decides whose rows are listed; a forged userId is ignored
+        mockMvc.perform(get("/api/transactions").header(HttpHeaders.AUTHORIZATION, bearer)
+                .param("userId", other.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+        mockMvc.perform(get("/api/users/" + other.getId()).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void changesSinceTheListingWatermarkAreReturned() throws Exception {
+        String watermark = mockMvc.perform(get("/api/transactions").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(TransactionController.WATERMARK_HEADER);
+
+        mockMvc.perform(post("/api/transactions")
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"categoryId\":" + salary.getId() + ",\"amount\":40,\"date\":\"2024-07-03\"}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/transactions/changes").header(HttpHeaders.AUTHORIZATION, bearer)
+                .param("since", watermark))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.changed[0].amount").value(40))
+                .andExpect(jsonPath("$.deleted").isEmpty())
+                .andExpect(jsonPath("$.watermark").value(Long.parseLong(watermark) + 1));
+
+        mockMvc.perform(get("/api/transactions/changes").header(HttpHeaders.AUTHORIZATION, bearer)
+                .param("since", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchMatchesNoteWordPrefixes() throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"categoryId\":" + salary.getId()
+                        + ",\"amount\":900,\"date\":\"2024-07-04\",\"note\":\"July bonus payout\"}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/transactions/search").header(HttpHeaders.AUTHORIZATION, bearer)
+                .param("q", "bon").param("categoryId", salary.getId().toString()).param("from", "2024-07-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].amount").value(900));
+
+        mockMvc.perform(get("/api/transactions/search").header(HttpHeaders.AUTHORIZATION, bearer)
+                .param("q", "bonus").param("to", "01/07/2024"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Invalid date format. Use YYYY-MM-DD"));
+    }
+}
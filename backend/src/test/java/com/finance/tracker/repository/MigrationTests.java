@@ -0,0 +1,64 @@
+package com.finance.tracker.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the migrations over a pre-Flyway database holding data, as an existing install would
+class MigrationTests {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-" + System.nanoTime() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        flyway("1").migrate();
+        jdbcTemplate.execute("INSERT INTO users (id, username, password) VALUES (1, 'legacy', 'x')");
+        jdbcTemplate.execute("INSERT INTO categories (id, name, type) VALUES (1, 'Food', 'EXPENSE')");
+    }
+
+    @Test
+    void rollupIsSeededFromExistingTransactions() {
+        jdbcTemplate.execute("INSERT INTO transactions (user_id, category_id, amount, date) VALUES "
+                + "(1, 1, 10.00, '2024-03-05'), (1, 1, 5.50, '2024-03-31'), (1, 1, 2.00, '2024-11-01')");
+
+        flyway(null).migrate();
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT month_start, total FROM monthly_totals WHERE user_id = 1 ORDER BY month_start"))
+                .extracting(row -> row.get("month_start").toString() + " " + row.get("total"))
+                .containsExactly("2024-03-01 15.50", "2024-11-01 2.00");
+    }
+
+    @Test
+    void duplicateBudgetsCollapseToTheNewest() {
+        jdbcTemplate.execute("INSERT INTO budgets (id, user_id, category_id, monthly_limit) VALUES "
+                + "(1, 1, 1, 100.00), (2, 1, 1, 250.00)");
+
+        flyway(null).migrate();
+
+        Map<String, Object> budget = jdbcTemplate.queryForMap("SELECT id, monthly_limit FROM budgets");
+        assertThat(budget.get("id")).isEqualTo(2L);
+    }
+
+    private Flyway flyway(String target) {
+        FluentConfiguration configuration = Flyway.configure()
+                .dataSource(dataSource)
+                .placeholders(Map.of("category_type_column", "VARCHAR(255)"));
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+}
@@ -0,0 +1,63 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.BudgetWithSpend;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class BudgetServiceTests {
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Test
+    void budgetsCarryCurrentMonthSpend() {
+        User user = userService.registerUser("budget-user", "secret");
+        Category food = categoryService.findByName("Food").orElseThrow();
+        Category rent = categoryService.findByName("Rent").orElseThrow();
+        YearMonth month = YearMonth.of(2024, 5);
+
+        budgetService.createBudget(user.getId(), food.getId(), new BigDecimal("300.00"));
+        budgetService.createBudget(user.getId(), rent.getId(), new BigDecimal("1200.00"));
+        transactionService.createTransaction(user.getId(), food.getId(), new BigDecimal("45.50"),
+                LocalDate.of(2024, 5, 2), null);
+        transactionService.createTransaction(user.getId(), food.getId(), new BigDecimal("20.00"),
+                LocalDate.of(2024, 5, 9), null);
+        transactionService.createTransaction(user.getId(), food.getId(), new BigDecimal("99.00"),
+                LocalDate.of(2024, 4, 30), null);
+
+        List<BudgetWithSpend> budgets = budgetService.listBudgetsWithSpendByUser(user.getId(), month);
+
+        assertThat(budgets).hasSize(2);
+        for (BudgetWithSpend budget : budgets) {
+            BigDecimal expected = budget.budget().getCategory().getId().equals(food.getId())
+                    ? new BigDecimal("65.50")
+                    : BigDecimal.ZERO;
+            assertThat(budget.currentSpend()).isEqualByComparingTo(expected);
+        }
+        assertThat(budgetService.getSpendForMonth(user.getId(), food.getId(), month)).isEqualByComparingTo("65.50");
+    }
+}
@@ -0,0 +1,122 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.model.Budget;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Not transactional: each writer commits on its own thread
+@SpringBootTest
+@ActiveProfiles("test")
+class ConcurrentEditTests {
+
+    private static final int WRITERS = 4;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    private User user;
+    private Category food;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.registerUser("concurrent-user-" + System.nanoTime(), "secret");
+        food = categoryService.findByName("Food").orElseThrow();
+    }
+
+    @Test
+    void concurrentBudgetCreatesUpsertOneRow() throws Exception {
+        List<Budget> results = runConcurrently(i -> budgetService.createBudget(user.getId(), food.getId(),
+                new BigDecimal(100 + i)));
+
+        List<Budget> budgets = budgetService.listBudgetsByUser(user.getId());
+        assertThat(budgets).hasSize(1);
+        assertThat(results).extracting(Budget::getId).containsOnly(budgets.get(0).getId());
+    }
+
+    @Test
+    void concurrentTransactionUpdatesKeepRollupConsistent() throws Exception {
+        Transaction transaction = transactionService.createTransaction(user.getId(), food.getId(),
+                new BigDecimal("10.00"), LocalDate.of(2024, 5, 10), null);
+
+        runConcurrently(i -> transactionService.updateTransaction(transaction.getId(), user.getId(), food.getId(),
+                new BigDecimal(i + 1), LocalDate.of(2024, 5, 11 + i), null, null));
+
+        Transaction stored = transactionService.findById(transaction.getId()).orElseThrow();
+        assertThat(stored.getVersion()).isEqualTo(WRITERS);
+        // Every update saw the previous winner's amount, so the rollup matches the surviving row
+        assertThat(transactionService.getTotalAmountByUserAndDateRange(user.getId(), LocalDate.of(2024, 5, 1),
+                LocalDate.of(2024, 5, 31))).isEqualByComparingTo(stored.getAmount());
+    }
+
+    @Test
+    void staleClientVersionIsRejected() {
+        Transaction transaction = transactionService.createTransaction(user.getId(), food.getId(), BigDecimal.TEN,
+                LocalDate.of(2024, 5, 10), null);
+        Long readVersion = transaction.getVersion();
+        transactionService.updateTransaction(transaction.getId(), user.getId(), food.getId(), BigDecimal.ONE,
+                LocalDate.of(2024, 5, 10), "first", readVersion);
+
+        assertThatThrownBy(() -> transactionService.updateTransaction(transaction.getId(), user.getId(),
+                food.getId(), new BigDecimal("2"), LocalDate.of(2024, 5, 10), "second", readVersion))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(transactionService.findById(transaction.getId()).orElseThrow().getNote()).isEqualTo("first");
+    }
+
+    private interface Writer<T> {
+        T write(int index);
+    }
+
+    // Starts every writer at once and fails the test if any of them threw
+    private <T> List<T> runConcurrently(Writer<T> writer) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                int index = i;
+                Callable<T> task = () -> {
+                    start.await();
+                    return writer.write(index);
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
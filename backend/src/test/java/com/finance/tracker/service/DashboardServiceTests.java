@@ -0,0 +1,61 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.DashboardSummary;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DashboardServiceTests {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Test
+    void summaryAggregatesTotalsCategoriesAndTrend() {
+        User user = userService.registerUser("dashboard-user", "secret");
+        Category salary = categoryService.findByName("Salary").orElseThrow();
+        Category food = categoryService.findByName("Food").orElseThrow();
+
+        transactionService.createTransaction(user.getId(), salary.getId(), new BigDecimal("1000.00"),
+                LocalDate.of(2024, 3, 1), null);
+        transactionService.createTransaction(user.getId(), food.getId(), new BigDecimal("40.00"),
+                LocalDate.of(2024, 3, 5), null);
+        transactionService.createTransaction(user.getId(), food.getId(), new BigDecimal("60.00"),
+                LocalDate.of(2024, 3, 20), null);
+        transactionService.createTransaction(user.getId(), food.getId(), new BigDecimal("25.00"),
+                LocalDate.of(2024, 1, 15), null);
+
+        DashboardSummary summary = dashboardService.getSummary(user.getId(), YearMonth.of(2024, 3), 3);
+
+        assertThat(summary.totalIncome()).isEqualByComparingTo("1000");
+        assertThat(summary.totalExpense()).isEqualByComparingTo("125");
+        assertThat(summary.monthlyExpense()).isEqualByComparingTo("100");
+        assertThat(summary.categories()).hasSize(2);
+        assertThat(summary.categories().get(0).name()).isEqualTo("Salary");
+        assertThat(summary.trend()).extracting(DashboardSummary.MonthSummary::month)
+                .containsExactly("2024-01", "2024-02", "2024-03");
+        assertThat(summary.trend().get(1).expense()).isEqualByComparingTo("0");
+    }
+}
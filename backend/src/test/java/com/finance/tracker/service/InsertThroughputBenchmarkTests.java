@@ -0,0 +1,81 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Compares one INSERT per round-trip (what IDENTITY ids forced) with the configured JDBC batch size.
+// Excluded from the default build; run with: mvn test -Dgroups=benchmark -DexcludedGroups=none
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+class InsertThroughputBenchmarkTests {
+
+    private static final int ROWS = 20_000;
+    private static final int FLUSH_EVERY = 1_000;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void batchedInsertsAgainstSingleRowInserts() {
+        Category category = categoryService.findByName("Food").orElseThrow();
+
+        // Warm-up pass so the first measured run does not pay for class loading and JIT
+        insert(userService.registerUser("bench-warmup", "secret"), category, 1);
+
+        User singleUser = userService.registerUser("bench-single", "secret");
+        long single = insert(singleUser, category, 1);
+        User batchedUser = userService.registerUser("bench-batched", "secret");
+        long batched = insert(batchedUser, category, null);
+
+        System.out.printf("Inserted %d rows: batch size 1 %d ms (%.0f rows/s), configured batching %d ms (%.0f rows/s)%n",
+                ROWS, single, ROWS * 1000.0 / single, batched, ROWS * 1000.0 / batched);
+        assertThat(transactionService.listTransactionsByUser(singleUser.getId())).hasSize(ROWS);
+        assertThat(transactionService.listTransactionsByUser(batchedUser.getId())).hasSize(ROWS);
+    }
+
+    private long insert(User owner, Category category, Integer jdbcBatchSize) {
+        long start = System.nanoTime();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(jdbcBatchSize);
+            User user = entityManager.getReference(User.class, owner.getId());
+            Category ref = entityManager.getReference(Category.class, category.getId());
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(new Transaction(user, ref, BigDecimal.ONE, LocalDate.of(2024, 1, 1).plusDays(i % 365), null));
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
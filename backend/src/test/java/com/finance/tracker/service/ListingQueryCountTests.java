@@ -0,0 +1,100 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.BudgetWithSpend;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Guards against lazy category loads creeping back into the listing paths
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ListingQueryCountTests {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.registerUser("count-user", "secret");
+        List<String> names = List.of("Food", "Rent", "Utilities", "Salary");
+        for (int i = 0; i < 40; i++) {
+            Category category = categoryService.findByName(names.get(i % names.size())).orElseThrow();
+            transactionService.createTransaction(user.getId(), category.getId(), BigDecimal.ONE,
+                    LocalDate.of(2024, 6, 1).plusDays(i % 28), null);
+            if (i < names.size()) {
+                budgetService.createBudget(user.getId(), category.getId(), BigDecimal.TEN);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void transactionPageIsOneQuery() {
+        List<Transaction> page = transactionService.listTransactionsPage(user.getId(), null, null, 50);
+        page.forEach(t -> t.getCategory().getName());
+
+        // The user comes from the lookup cache, warmed by setUp
+        assertThat(page).hasSize(40);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void dateRangeListingIsOneQuery() {
+        List<Transaction> transactions = transactionService.listTransactionsByUserAndDateRange(user.getId(),
+                LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 30));
+        transactions.forEach(t -> t.getCategory().getType());
+
+        assertThat(transactions).hasSize(40);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void budgetListingIsConstantInBudgetCount() {
+        List<BudgetWithSpend> budgets = budgetService.listBudgetsWithSpendByUser(user.getId(), YearMonth.of(2024, 6));
+        budgets.forEach(b -> b.budget().getCategory().getName());
+
+        // Budgets with categories and the month's rollup rows; the user is cached
+        assertThat(budgets).hasSize(4);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
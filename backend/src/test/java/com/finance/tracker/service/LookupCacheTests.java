@@ -0,0 +1,94 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.config.CacheConfig;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not transactional: evictions have to be observed against committed rows
+@SpringBootTest
+@ActiveProfiles("test")
+class LookupCacheTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void repeatedUserLookupsAreServedFromMemory() {
+        User user = userService.registerUser("cache-user-" + System.nanoTime(), "secret");
+        userService.findById(user.getId()).orElseThrow();
+        long hitsBefore = nativeStats(CacheConfig.USERS).hitCount();
+
+        statistics.clear();
+        for (int i = 0; i < 5; i++) {
+            assertThat(userService.findById(user.getId())).isPresent();
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(nativeStats(CacheConfig.USERS).hitCount() - hitsBefore).isEqualTo(5);
+    }
+
+    @Test
+    void profileUpdateEvictsCachedUser() {
+        User user = userService.registerUser("cache-profile-" + System.nanoTime(), "secret");
+        assertThat(userService.findById(user.getId()).orElseThrow().getDisplayName()).isNotEqualTo("Renamed");
+
+        userService.updateUserProfile(user.getId(), "Renamed", "EUR", new BigDecimal("4000.00"));
+
+        User reloaded = userService.findById(user.getId()).orElseThrow();
+        assertThat(reloaded.getDisplayName()).isEqualTo("Renamed");
+        assertThat(reloaded.getPreferredCurrency()).isEqualTo("EUR");
+    }
+
+    @Test
+    void categoryWritesEvictByIdAndListEntries() {
+        int listed = categoryService.listAllCategories().size();
+
+        Category created = categoryService.createCategory("Cache-" + System.nanoTime(), Category.CategoryType.EXPENSE);
+        assertThat(categoryService.listAllCategories()).hasSize(listed + 1);
+        assertThat(categoryService.findById(created.getId())).isPresent();
+
+        categoryService.updateCategory(created.getId(), created.getName() + "-renamed", Category.CategoryType.INCOME);
+        assertThat(categoryService.findById(created.getId()).orElseThrow().getType())
+                .isEqualTo(Category.CategoryType.INCOME);
+        assertThat(categoryService.listAllCategories())
+                .anyMatch(c -> c.getName().equals(created.getName() + "-renamed"));
+
+        categoryService.deleteCategory(created.getId());
+        assertThat(categoryService.findById(created.getId())).isEmpty();
+        assertThat(categoryService.listAllCategories()).hasSize(listed);
+    }
+
+    private com.github.benmanes.caffeine.cache.stats.CacheStats nativeStats(String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache().stats();
+    }
+}
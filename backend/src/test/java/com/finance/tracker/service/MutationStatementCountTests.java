@@ -0,0 +1,124 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.model.Budget;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Not transactional: each mutation must commit so its flush is counted
+@SpringBootTest
+@ActiveProfiles("test")
+class MutationStatementCountTests {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private User otherUser;
+    private Category food;
+    private Category rent;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.registerUser("mutation-user-" + System.nanoTime(), "secret");
+        otherUser = userService.registerUser("mutation-other-" + System.nanoTime(), "secret");
+        food = categoryService.findByName("Food").orElseThrow();
+        rent = categoryService.findByName("Rent").orElseThrow();
+        // Warm the lookup cache the way any earlier request would have
+        userService.findById(user.getId());
+        categoryService.findById(food.getId());
+        categoryService.findById(rent.getId());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void transactionUpdateIsSelectUpdateAndRollup() {
+        Transaction transaction = transactionService.createTransaction(user.getId(), food.getId(), BigDecimal.TEN,
+                LocalDate.of(2024, 5, 3), null);
+
+        statistics.clear();
+        transactionService.updateTransaction(transaction.getId(), user.getId(), food.getId(), new BigDecimal("12.50"),
+                LocalDate.of(2024, 5, 4), "edited", null);
+
+        // Plus the users.data_version bump and read-back of the new change stamp, and the
+        // INSERT indexing the one word of the new note
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+    }
+
+    @Test
+    void transactionDeleteIsSelectDeleteAndRollup() {
+        Transaction transaction = transactionService.createTransaction(user.getId(), food.getId(), BigDecimal.TEN,
+                LocalDate.of(2024, 5, 3), null);
+
+        statistics.clear();
+        transactionService.deleteTransaction(transaction.getId(), user.getId());
+
+        // Plus the change stamp bump and read-back, and the tombstone INSERT
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+    }
+
+    @Test
+    void budgetUpdateIsSelectAndUpdate() {
+        Budget budget = budgetService.createBudget(user.getId(), food.getId(), new BigDecimal("300.00"));
+
+        statistics.clear();
+        budgetService.updateBudget(budget.getId(), user.getId(), food.getId(), new BigDecimal("350.00"), null);
+
+        // Plus the users.data_version bump
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void budgetDeleteIsOneStatementAndStamp() {
+        Budget budget = budgetService.createBudget(user.getId(), rent.getId(), new BigDecimal("900.00"));
+
+        statistics.clear();
+        budgetService.deleteBudget(budget.getId(), user.getId());
+
+        // Plus the users.data_version bump
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void mutationsOfAnotherUsersRowsReportNotFound() {
+        Transaction transaction = transactionService.createTransaction(user.getId(), food.getId(), BigDecimal.ONE,
+                LocalDate.of(2024, 5, 3), null);
+        Budget budget = budgetService.createBudget(user.getId(), food.getId(), new BigDecimal("100.00"));
+
+        assertThatThrownBy(() -> transactionService.deleteTransaction(transaction.getId(), otherUser.getId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Transaction not found");
+        assertThatThrownBy(() -> budgetService.deleteBudget(budget.getId(), otherUser.getId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Budget not found");
+        assertThat(transactionService.findById(transaction.getId())).isPresent();
+        assertThat(budgetService.findById(budget.getId())).isPresent();
+    }
+}
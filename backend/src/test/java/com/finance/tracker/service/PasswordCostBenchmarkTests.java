@@ -0,0 +1,84 @@
+package com.finance.tracker.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Cost of one BCrypt verification per work factor, and login throughput through the bounded
+// hash pool with and without the verified-credential cache. Excluded from the default build;
+// run with: mvn test -Dgroups=benchmark -DexcludedGroups=none -Dtest=PasswordCostBenchmarkTests
+@Tag("benchmark")
+class PasswordCostBenchmarkTests {
+
+    private static final int LOGINS = 400;
+    private static final int CLIENTS = 64;
+
+    @Test
+    void verificationCostPerWorkFactor() {
+        for (int cost = 8; cost <= 13; cost++) {
+            PasswordService passwords = new PasswordService(cost, 1, 16, 0);
+            try {
+                String hash = passwords.hash("correct horse battery staple");
+                passwords.matches("correct horse battery staple", hash);
+                int rounds = Math.max(2, 256 >> (cost - 8));
+                long start = System.nanoTime();
+                for (int i = 0; i < rounds; i++) {
+                    assertThat(passwords.matches("correct horse battery staple", hash)).isTrue();
+                }
+                double millis = (System.nanoTime() - start) / 1e6 / rounds;
+                System.out.printf("cost %2d: %7.1f ms per verification, %6.1f verifications/s per core%n", cost,
+                        millis, 1000 / millis);
+            } finally {
+                passwords.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void loginBurstThroughTheHashPool() throws Exception {
+        burst("uncached", new PasswordService(10, 0, 64, 0));
+        burst("verified cache", new PasswordService(10, 0, 64, 300));
+    }
+
+    private void burst(String label, PasswordService passwords) throws Exception {
+        String hash = passwords.hash("secret");
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            long start = System.nanoTime();
+            List<Future<Boolean>> results = new ArrayList<>(LOGINS);
+            for (int i = 0; i < LOGINS; i++) {
+                results.add(clients.submit(() -> passwords.matches("secret", hash)));
+            }
+            int ok = 0;
+            int shed = 0;
+            for (Future<Boolean> result : results) {
+                try {
+                    if (result.get()) {
+                        ok++;
+                    }
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof RejectedExecutionException)) {
+                        throw e;
+                    }
+                    shed++;
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%s, cost 10, %d cores: %d logins from %d clients in %.2fs (%.0f/s), %d shed%n", label,
+                    Runtime.getRuntime().availableProcessors(), LOGINS, CLIENTS, seconds, LOGINS / seconds, shed);
+            assertThat(ok + shed).isEqualTo(LOGINS);
+        } finally {
+            clients.shutdownNow();
+            passwords.shutdown();
+        }
+    }
+}
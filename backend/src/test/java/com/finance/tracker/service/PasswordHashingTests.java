@@ -0,0 +1,76 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.model.User;
+import com.finance.tracker.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not transactional: login reads and rehash writes run in their own transactions
+@SpringBootTest
+@ActiveProfiles("test")
+class PasswordHashingTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PasswordService passwordService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void registrationStoresAHashNotThePassword() {
+        User user = userService.registerUser("hash-user-" + System.nanoTime(), "secret");
+
+        String stored = storedPassword(user);
+        assertThat(stored).isNotEqualTo("secret");
+        assertThat(passwordService.isHashed(stored)).isTrue();
+        assertThat(userService.authenticate(user.getUsername(), "secret")).isPresent();
+        assertThat(userService.authenticate(user.getUsername(), "wrong")).isEmpty();
+    }
+
+    @Test
+    void legacyPlaintextRowIsRehashedOnLogin() {
+        User user = userService.registerUser("legacy-user-" + System.nanoTime(), "secret");
+        userRepository.replacePassword(user.getId(), storedPassword(user), "plain-secret");
+
+        assertThat(userService.authenticate(user.getUsername(), "wrong")).isEmpty();
+        assertThat(storedPassword(user)).isEqualTo("plain-secret");
+
+        assertThat(userService.authenticate(user.getUsername(), "plain-secret")).isPresent();
+        String upgraded = storedPassword(user);
+        assertThat(passwordService.isHashed(upgraded)).isTrue();
+        assertThat(userService.authenticate(user.getUsername(), "plain-secret")).isPresent();
+        assertThat(storedPassword(user)).isEqualTo(upgraded);
+    }
+
+    @Test
+    void missingPasswordsAreResetAcrossBatches() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < UserService.PASSWORD_RESET_BATCH_SIZE + 5; i++) {
+            User user = userService.registerUser("blank-user-" + i + "-" + System.nanoTime(), "secret");
+            userRepository.replacePassword(user.getId(), storedPassword(user), " ");
+            users.add(user);
+        }
+
+        assertThat(userService.resetMissingPasswords("password123")).isGreaterThanOrEqualTo(users.size());
+
+        for (User user : users) {
+            assertThat(passwordService.isHashed(storedPassword(user))).isTrue();
+        }
+        assertThat(userService.authenticate(users.get(0).getUsername(), "password123")).isPresent();
+        assertThat(userService.resetMissingPasswords("password123")).isZero();
+    }
+
+    private String storedPassword(User user) {
+        return userRepository.findById(user.getId()).orElseThrow().getPassword();
+    }
+}
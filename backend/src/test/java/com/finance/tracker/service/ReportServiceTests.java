@@ -0,0 +1,142 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.Report;
+import com.finance.tracker.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReportServiceTests {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Long salary;
+    private Long food;
+    private Long rent;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.registerUser("report-user-" + System.nanoTime(), "secret");
+        userService.updateUserProfile(user.getId(), null, null, new BigDecimal("1000"));
+        salary = categoryService.findByName("Salary").orElseThrow().getId();
+        food = categoryService.findByName("Food").orElseThrow().getId();
+        rent = categoryService.findByName("Rent").orElseThrow().getId();
+
+        create(salary, "1000", LocalDate.of(2023, 11, 15));
+        create(food, "200", LocalDate.of(2023, 12, 5));
+        create(salary, "1200", LocalDate.of(2024, 1, 10));
+        create(rent, "500", LocalDate.of(2024, 1, 20));
+        create(food, "100", LocalDate.of(2024, 3, 1));
+    }
+
+    @Test
+    void monthlyReportAcrossYearsFillsTheWholeMatrix() {
+        Report report = reportService.getReport(user.getId(), LocalDate.of(2023, 11, 1), LocalDate.of(2024, 3, 31),
+                ReportService.Granularity.MONTH);
+
+        assertThat(report.periods()).extracting(Report.PeriodTotal::period)
+                .containsExactly("2023-11", "2023-12", "2024-01", "2024-02", "2024-03");
+        Report.PeriodTotal january = report.periods().get(2);
+        assertThat(january.income()).isEqualByComparingTo("1200");
+        assertThat(january.expense()).isEqualByComparingTo("500");
+        assertThat(january.savingsRate()).isEqualByComparingTo("0.5833");
+        assertThat(january.incomeGoalProgress()).isEqualByComparingTo("1.2");
+        // Nothing to divide by in a month without income
+        assertThat(report.periods().get(1).savingsRate()).isNull();
+        assertThat(report.periods().get(3).net()).isEqualByComparingTo("0");
+
+        assertThat(report.income()).isEqualByComparingTo("2200");
+        assertThat(report.expense()).isEqualByComparingTo("800");
+        assertThat(report.incomeGoal()).isEqualByComparingTo("5000");
+        assertThat(report.incomeGoalProgress()).isEqualByComparingTo("0.44");
+
+        assertThat(report.categories()).extracting(Report.CategoryTotal::categoryId)
+                .containsExactly(salary, rent, food);
+        assertThat(periodTotals(report, food)).usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(BigDecimal.ZERO, new BigDecimal("200"), BigDecimal.ZERO, BigDecimal.ZERO,
+                        new BigDecimal("100"));
+    }
+
+    @Test
+    void multiYearReportIsOneQuery() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        reportService.getReport(user.getId(), LocalDate.of(2021, 1, 1), LocalDate.of(2024, 12, 31),
+                ReportService.Granularity.YEAR);
+
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void yearlyReportScalesTheGoalByMonthsCovered() {
+        Report report = reportService.getReport(user.getId(), LocalDate.of(2023, 11, 1), LocalDate.of(2024, 3, 31),
+                ReportService.Granularity.YEAR);
+
+        assertThat(report.periods()).extracting(Report.PeriodTotal::period).containsExactly("2023", "2024");
+        assertThat(report.periods().get(0).incomeGoal()).isEqualByComparingTo("2000");
+        assertThat(report.periods().get(0).incomeGoalProgress()).isEqualByComparingTo("0.5");
+        assertThat(report.periods().get(1).incomeGoal()).isEqualByComparingTo("3000");
+        assertThat(report.periods().get(1).expense()).isEqualByComparingTo("600");
+        assertThat(periodTotals(report, salary)).usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("1000"), new BigDecimal("1200"));
+    }
+
+    @Test
+    void rangeEdgesAreExactDays() {
+        Report report = reportService.getReport(user.getId(), LocalDate.of(2024, 1, 15), LocalDate.of(2024, 3, 1),
+                ReportService.Granularity.MONTH);
+
+        assertThat(report.income()).isEqualByComparingTo("0");
+        assertThat(report.expense()).isEqualByComparingTo("600");
+        assertThat(report.savingsRate()).isNull();
+    }
+
+    @Test
+    void invalidRangesAreRejected() {
+        assertThatThrownBy(() -> reportService.getReport(user.getId(), LocalDate.of(2024, 2, 1),
+                LocalDate.of(2024, 1, 1), ReportService.Granularity.MONTH))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reportService.getReport(user.getId(), LocalDate.of(2000, 1, 1),
+                LocalDate.of(2024, 1, 1), ReportService.Granularity.YEAR))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<BigDecimal> periodTotals(Report report, Long categoryId) {
+        return report.categories().stream()
+                .filter(category -> category.categoryId().equals(categoryId))
+                .findFirst().orElseThrow().periodTotals();
+    }
+
+    private void create(Long categoryId, String amount, LocalDate date) {
+        transactionService.createTransaction(user.getId(), categoryId, new BigDecimal(amount), date, null);
+    }
+}
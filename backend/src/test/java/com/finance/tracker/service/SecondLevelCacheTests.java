@@ -0,0 +1,109 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.model.Budget;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not transactional: the second-level cache only holds committed data
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTests {
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private User user;
+    private Category food;
+    private Category rent;
+    private Budget foodBudget;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userService.registerUser("l2-user-" + System.nanoTime(), "secret");
+        food = categoryService.findByName("Food").orElseThrow();
+        rent = categoryService.findByName("Rent").orElseThrow();
+        foodBudget = budgetService.createBudget(user.getId(), food.getId(), new BigDecimal("300.00"));
+    }
+
+    @Test
+    void budgetLoadedByIdIsServedFromCache() {
+        budgetService.findById(foodBudget.getId());
+
+        statistics.clear();
+        Budget budget = budgetService.findById(foodBudget.getId()).orElseThrow();
+
+        assertThat(budget.getMonthlyLimit()).isEqualByComparingTo("300.00");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    // What another instance writing the same database looks like from here
+    @Test
+    void budgetListingSeesWritesThatBypassThisCache() {
+        budgetService.listBudgetsByUser(user.getId());
+
+        jdbcTemplate.update("UPDATE budgets SET monthly_limit = 450.00 WHERE id = ?", foodBudget.getId());
+        List<Budget> budgets = budgetService.listBudgetsByUser(user.getId());
+
+        assertThat(budgets).singleElement()
+                .satisfies(b -> assertThat(b.getMonthlyLimit()).isEqualByComparingTo("450.00"));
+    }
+
+    @Test
+    void budgetWritesInvalidateTheListing() {
+        budgetService.listBudgetsByUser(user.getId());
+
+        Budget created = budgetService.createBudget(user.getId(), rent.getId(), new BigDecimal("1200.00"));
+        assertThat(budgetService.listBudgetsByUser(user.getId())).hasSize(2);
+
+        budgetService.updateBudget(created.getId(), user.getId(), rent.getId(), new BigDecimal("1500.00"), null);
+        assertThat(budgetService.listBudgetsByUser(user.getId()))
+                .filteredOn(b -> b.getId().equals(created.getId()))
+                .singleElement()
+                .satisfies(b -> assertThat(b.getMonthlyLimit()).isEqualByComparingTo("1500.00"));
+
+        budgetService.deleteBudget(created.getId(), user.getId());
+        assertThat(budgetService.listBudgetsByUser(user.getId())).hasSize(1);
+    }
+
+    @Test
+    void rollupUpsertLeavesBudgetCacheIntact() {
+        budgetService.listBudgetsByUser(user.getId());
+        transactionService.createTransaction(user.getId(), food.getId(), BigDecimal.TEN, LocalDate.of(2024, 5, 1),
+                null);
+
+        assertThat(entityManagerFactory.getCache().contains(Budget.class, foodBudget.getId())).isTrue();
+    }
+}
@@ -0,0 +1,61 @@
+package com.finance.tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionTokenServiceTests {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final Instant NOW = Instant.parse("2024-07-01T12:00:00Z");
+
+    private final SessionTokenService tokens = new SessionTokenService(SECRET, 60, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void issuedTokenVerifiesToItsUser() {
+        String token = tokens.issue(42L);
+
+        assertThat(token.split("\\.")).hasSize(3);
+        assertThat(tokens.verify(token)).isEqualTo(42L);
+    }
+
+    @Test
+    void tamperedOrForeignTokensAreRejected() {
+        String token = tokens.issue(42L);
+        String forgedClaims = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"7\",\"iat\":0,\"exp\":9999999999}".getBytes());
+        String[] parts = token.split("\\.");
+
+        assertThat(tokens.verify(parts[0] + "." + forgedClaims + "." + parts[2])).isNull();
+        assertThat(tokens.verify(token.substring(0, token.length() - 2))).isNull();
+        assertThat(tokens.verify("not-a-token")).isNull();
+        assertThat(tokens.verify(token + ".extra")).isNull();
+
+        String otherKey = Base64.getEncoder().encodeToString("another-signing-key-of-32-bytes!".getBytes());
+        SessionTokenService otherInstance = new SessionTokenService(otherKey, 60,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        assertThat(otherInstance.verify(token)).isNull();
+    }
+
+    @Test
+    void tokenExpiresAfterItsTtl() {
+        String token = tokens.issue(42L);
+
+        SessionTokenService later = new SessionTokenService(SECRET, 60,
+                Clock.fixed(NOW.plus(Duration.ofMinutes(61)), ZoneOffset.UTC));
+        assertThat(later.verify(token)).isNull();
+    }
+
+    @Test
+    void shortSecretIsRefused() {
+        assertThatThrownBy(() -> new SessionTokenService(Base64.getEncoder().encodeToString(new byte[16]), 60))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
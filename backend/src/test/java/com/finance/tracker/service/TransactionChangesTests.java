@@ -0,0 +1,122 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.TransactionChanges;
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TransactionChangesTests {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Category food;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.registerUser("sync-user", "secret");
+        food = categoryService.findByName("Food").orElseThrow();
+    }
+
+    @Test
+    void onlyRowsWrittenAfterTheWatermarkAreReturned() {
+        Transaction kept = create("12.00", "kept");
+        Transaction edited = create("5.00", "before");
+        Transaction removed = create("7.00", "removed");
+        long watermark = transactionService.listChangesSince(user.getId(), 0).watermark();
+
+        transactionService.updateTransaction(edited.getId(), user.getId(), food.getId(), new BigDecimal("6.00"),
+                edited.getDate(), "after", null);
+        transactionService.deleteTransaction(removed.getId(), user.getId());
+        Transaction added = create("3.00", "added");
+
+        TransactionChanges changes = transactionService.listChangesSince(user.getId(), watermark);
+
+        assertThat(changes.changed()).extracting(TransactionResponse::id)
+                .containsExactly(edited.getId(), added.getId())
+                .doesNotContain(kept.getId());
+        assertThat(changes.changed().get(0).note()).isEqualTo("after");
+        assertThat(changes.deleted()).containsExactly(removed.getId());
+        assertThat(changes.watermark()).isGreaterThan(watermark);
+
+        // Caught up: nothing more until the next write
+        TransactionChanges none = transactionService.listChangesSince(user.getId(), changes.watermark());
+        assertThat(none.changed()).isEmpty();
+        assertThat(none.deleted()).isEmpty();
+        assertThat(none.watermark()).isEqualTo(changes.watermark());
+    }
+
+    @Test
+    void fullSyncHasNoTombstones() {
+        Transaction removed = create("7.00", "removed");
+        Transaction kept = create("1.00", "kept");
+        transactionService.deleteTransaction(removed.getId(), user.getId());
+
+        TransactionChanges changes = transactionService.listChangesSince(user.getId(), 0);
+
+        assertThat(changes.changed()).extracting(TransactionResponse::id).containsExactly(kept.getId());
+        assertThat(changes.deleted()).isEmpty();
+    }
+
+    @Test
+    void rowsFromBeforeTheChangeLogArePartOfAFullSync() {
+        Transaction legacy = create("9.00", "legacy");
+        legacy.setChangeSeq(0);
+        entityManager.flush();
+
+        TransactionChanges changes = transactionService.listChangesSince(user.getId(), 0);
+
+        assertThat(changes.changed()).extracting(TransactionResponse::id).containsExactly(legacy.getId());
+    }
+
+    @Test
+    void otherUsersWritesDoNotShowUp() {
+        long watermark = transactionService.listChangesSince(user.getId(), 0).watermark();
+        User other = userService.registerUser("sync-other", "secret");
+        transactionService.createTransaction(other.getId(), food.getId(), BigDecimal.ONE, LocalDate.of(2024, 6, 1),
+                null);
+
+        TransactionChanges changes = transactionService.listChangesSince(user.getId(), watermark);
+
+        assertThat(changes.changed()).isEmpty();
+        assertThat(changes.watermark()).isEqualTo(watermark);
+    }
+
+    @Test
+    void watermarkAheadOfTheServerIsRejected() {
+        assertThatThrownBy(() -> transactionService.listChangesSince(user.getId(), 1_000_000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Transaction create(String amount, String note) {
+        return transactionService.createTransaction(user.getId(), food.getId(), new BigDecimal(amount),
+                LocalDate.of(2024, 6, 10), note);
+    }
+}
@@ -0,0 +1,106 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.dto.ImportResult;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not @Transactional: the importer commits its own batches
+@SpringBootTest
+@ActiveProfiles("test")
+class TransactionImportServiceTests {
+
+    @Autowired
+    private TransactionImportService transactionImportService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.registerUser("import-user-" + System.nanoTime(), "secret");
+    }
+
+    @Test
+    void csvImportReportsBadRowsAndKeepsGoodOnes() throws IOException {
+        String csv = """
+                Date,Amount,Category,Note
+                2024-08-01,12.50,Food,"Corner shop, milk"
+                2024-08-02,-3.00,Food,refund
+                2024-08-03,40,NoSuchCategory,
+                08/04/2024,10,Food,
+                2024-08-05,1500,salary,"Pay ""August""\"
+                """;
+
+        ImportResult result = importCsv(csv);
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(result.errors()).extracting(ImportResult.RowError::line).containsExactly(3, 4, 5);
+        assertThat(transactionService.getTotalAmountByUserAndDateRange(user.getId(),
+                LocalDate.of(2024, 8, 1), LocalDate.of(2024, 8, 31))).isEqualByComparingTo("1512.50");
+    }
+
+    @Test
+    void ofxImportFilesDebitsAndCreditsByDirection() throws IOException {
+        Category food = categoryService.findByName("Food").orElseThrow();
+        Category salary = categoryService.findByName("Salary").orElseThrow();
+        String ofx = """
+                OFXHEADER:100
+                <OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>
+                <STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20240902120000<TRNAMT>-23.40<NAME>Grocer &amp; Co</STMTTRN>
+                <STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20240915<TRNAMT>2000.00<NAME>Employer<MEMO>Salary</STMTTRN>
+                </BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>
+                """;
+
+        ImportResult result = transactionImportService.importTransactions(user.getId(),
+                new ByteArrayInputStream(ofx.getBytes(StandardCharsets.UTF_8)), "ofx", food.getId(), salary.getId());
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(transactionService.getTotalAmountByUserAndCategoryAndDateRange(user.getId(), food.getId(),
+                LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 30))).isEqualByComparingTo("23.40");
+        assertThat(transactionService.listTransactionsPage(user.getId(), null, null, 10))
+                .extracting(t -> t.getNote())
+                .containsExactly("Employer - Salary", "Grocer & Co");
+    }
+
+    @Test
+    void largeCsvImportGoesThroughInBatches() throws IOException {
+        int rows = 20_000;
+        StringBuilder csv = new StringBuilder("date,amount,category\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("2023-").append(String.format("%02d", i % 12 + 1)).append("-15,1.00,Food\n");
+        }
+
+        ImportResult result = importCsv(csv.toString());
+
+        assertThat(result.imported()).isEqualTo(rows);
+        assertThat(transactionService.getTotalAmountByUserAndDateRange(user.getId(),
+                LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31))).isEqualByComparingTo(BigDecimal.valueOf(rows));
+    }
+
+    private ImportResult importCsv(String csv) throws IOException {
+        return transactionImportService.importTransactions(user.getId(),
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "csv", null, null);
+    }
+}
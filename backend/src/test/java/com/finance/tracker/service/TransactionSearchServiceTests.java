@@ -0,0 +1,188 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.TransactionNoteTerm;
+import com.finance.tracker.model.User;
+import com.finance.tracker.repository.CompletedBackfillRepository;
+import com.finance.tracker.repository.TransactionNoteTermRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TransactionSearchServiceTests {
+
+    @Autowired
+    private TransactionSearchService searchService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionNoteTermRepository noteTermRepository;
+
+    @Autowired
+    private CompletedBackfillRepository completedBackfillRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    private User user;
+    private Category food;
+    private Category rent;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.registerUser("search-user", "secret");
+        food = categoryService.findByName("Food").orElseThrow();
+        rent = categoryService.findByName("Rent").orElseThrow();
+    }
+
+    @Test
+    void notesAreSplitIntoDistinctFoldedWords() {
+        assertThat(TransactionSearchService.terms("Coffee @ Café-Nero, coffee x2 & a tip"))
+                .containsExactly("coffee", "cafe", "nero", "x2", "tip");
+        assertThat(TransactionSearchService.terms("cafe CAFÉ Ｃａｆｅ")).containsExactly("cafe");
+        assertThat(TransactionSearchService.terms(null)).isEmpty();
+        assertThat(TransactionSearchService.terms("z".repeat(80))).containsExactly("z".repeat(64));
+        assertThat(TransactionSearchService.terms("\uD840\uDC00".repeat(70)))
+                .containsExactly("\uD840\uDC00".repeat(64));
+    }
+
+    @Test
+    void accentedAndPlainSpellingsAreOneWord() {
+        Transaction transaction = create(food, LocalDate.of(2024, 3, 1), "cafe café");
+
+        assertThat(noteTermRepository.findByTransactionId(transaction.getId()))
+                .extracting(TransactionNoteTerm::getTerm)
+                .containsExactly("cafe");
+        assertThat(search("Café", null, null, null)).containsExactly(transaction);
+
+        transactionService.updateTransaction(transaction.getId(), user.getId(), food.getId(), BigDecimal.ONE,
+                transaction.getDate(), "Cafe", null);
+        assertThat(search("cafe", null, null, null)).containsExactly(transaction);
+    }
+
+    @Test
+    void everyQueryWordMustPrefixAWordOfTheNote() {
+        Transaction latte = create(food, LocalDate.of(2024, 3, 2), "Oat latte at the station cafe");
+        Transaction beans = create(food, LocalDate.of(2024, 3, 5), "Coffee beans");
+        create(food, LocalDate.of(2024, 3, 6), null);
+
+        assertThat(search("lat", null, null, null)).containsExactly(latte);
+        assertThat(search("CAFE station", null, null, null)).containsExactly(latte);
+        assertThat(search("co be", null, null, null)).containsExactly(beans);
+        assertThat(search("latte beans", null, null, null)).isEmpty();
+        assertThat(search("ate", null, null, null)).isEmpty();
+    }
+
+    @Test
+    void categoryAndDateRangeNarrowTheMatches() {
+        Transaction march = create(food, LocalDate.of(2024, 3, 10), "Groceries market");
+        Transaction april = create(food, LocalDate.of(2024, 4, 10), "Groceries market");
+        Transaction rentRow = create(rent, LocalDate.of(2024, 4, 1), "Market street flat");
+
+        assertThat(search("market", null, null, null)).containsExactly(april, rentRow, march);
+        assertThat(search("market", food.getId(), null, null)).containsExactly(april, march);
+        assertThat(search("market", null, LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30)))
+                .containsExactly(april, rentRow);
+        assertThat(search("market", food.getId(), LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)))
+                .containsExactly(march);
+    }
+
+    @Test
+    void resultsAreScopedToTheUserAndPagedByCursor() {
+        User other = userService.registerUser("search-other", "secret");
+        transactionService.createTransaction(other.getId(), food.getId(), BigDecimal.ONE, LocalDate.of(2024, 5, 1),
+                "Pizza night");
+        Transaction first = create(food, LocalDate.of(2024, 5, 3), "Pizza delivery");
+        Transaction second = create(food, LocalDate.of(2024, 5, 2), "Pizza slice");
+        Transaction third = create(food, LocalDate.of(2024, 5, 2), "Pizza oven");
+
+        List<Transaction> page = searchService.search(user.getId(), "pizza", null, null, null, null, null, 2);
+        assertThat(page).containsExactly(first, third);
+        Transaction last = page.get(1);
+        assertThat(searchService.search(user.getId(), "pizza", null, null, null, last.getDate(), last.getId(), 2))
+                .containsExactly(second);
+    }
+
+    @Test
+    void editsAndDeletesKeepTheIndexInStep() {
+        Transaction transaction = create(food, LocalDate.of(2024, 6, 1), "Train ticket");
+
+        transactionService.updateTransaction(transaction.getId(), user.getId(), food.getId(), BigDecimal.TEN,
+                transaction.getDate(), "Bus ticket", null);
+        assertThat(search("train", null, null, null)).isEmpty();
+        assertThat(search("bus", null, null, null)).containsExactly(transaction);
+
+        transactionService.deleteTransaction(transaction.getId(), user.getId());
+        assertThat(search("ticket", null, null, null)).isEmpty();
+        assertThat(noteTermRepository.findByTransactionId(transaction.getId())).isEmpty();
+    }
+
+    @Test
+    void backfillIndexesMissingNotesAndCanRunAgain() {
+        Transaction indexed = create(food, LocalDate.of(2024, 7, 1), "Birthday dinner dinner");
+        Transaction missing = create(food, LocalDate.of(2024, 7, 2), "Dinner with friends");
+        noteTermRepository.deleteAll(noteTermRepository.findByTransactionId(missing.getId()));
+        assertThat(search("friends", null, null, null)).isEmpty();
+
+        searchService.indexExistingNotes();
+        searchService.indexExistingNotes();
+
+        assertThat(noteTermRepository.findByTransactionId(indexed.getId()))
+                .extracting(TransactionNoteTerm::getTerm)
+                .containsExactlyInAnyOrder("birthday", "dinner");
+        assertThat(search("fri", null, null, null)).extracting(Transaction::getId)
+                .containsExactly(missing.getId());
+        assertThat(completedBackfillRepository.existsById(TransactionSearchService.NOTE_INDEX_BACKFILL)).isTrue();
+    }
+
+    @Test
+    void backfillSkipsRowsChangedSinceTheirNoteWasRead() {
+        Transaction transaction = create(food, LocalDate.of(2024, 8, 1), "Gym membership");
+
+        noteTermRepository.addIfUnchanged(user.getId(), "stale", transaction.getId(),
+                transaction.getChangeSeq() - 1);
+        noteTermRepository.addIfUnchanged(user.getId(), "current", transaction.getId(),
+                transaction.getChangeSeq());
+
+        assertThat(noteTermRepository.findByTransactionId(transaction.getId()))
+                .extracting(TransactionNoteTerm::getTerm)
+                .containsExactlyInAnyOrder("gym", "membership", "current");
+    }
+
+    @Test
+    void queriesWithoutUsableWordsAreRejected() {
+        assertThatThrownBy(() -> search("a !", null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at least 2");
+        assertThatThrownBy(() -> search("one two three four five six", null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("more than 5 words");
+    }
+
+    private Transaction create(Category category, LocalDate date, String note) {
+        return transactionService.createTransaction(user.getId(), category.getId(), BigDecimal.ONE, date, note);
+    }
+
+    private List<Transaction> search(String query, Long categoryId, LocalDate from, LocalDate to) {
+        return searchService.search(user.getId(), query, categoryId, from, to, null, null, 50);
+    }
+}
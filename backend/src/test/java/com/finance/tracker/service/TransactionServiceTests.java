@@ -0,0 +1,103 @@
+package com.finance.tracker.service;
+
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TransactionServiceTests {
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    private User user;
+    private Category food;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.registerUser("ledger-user", "secret");
+        food = categoryService.findByName("Food").orElseThrow();
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < 25; i++) {
+            // Two rows per day so pages split inside a date
+            transactionService.createTransaction(user.getId(), food.getId(), BigDecimal.TEN,
+                    start.plusDays(i / 2), "row " + i);
+        }
+    }
+
+    @Test
+    void keysetPagesCoverHistoryWithoutOverlap() {
+        List<Long> seen = new ArrayList<>();
+        LocalDate beforeDate = null;
+        Long beforeId = null;
+        List<Transaction> page;
+        do {
+            page = transactionService.listTransactionsPage(user.getId(), beforeDate, beforeId, 10);
+            page.forEach(t -> seen.add(t.getId()));
+            if (!page.isEmpty()) {
+                Transaction last = page.get(page.size() - 1);
+                beforeDate = last.getDate();
+                beforeId = last.getId();
+            }
+        } while (page.size() == 10);
+
+        assertThat(seen).hasSize(25).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void streamVisitsEveryTransactionNewestFirst() {
+        List<LocalDate> dates = new ArrayList<>();
+        transactionService.streamTransactionsByUser(user.getId(), t -> dates.add(t.getDate()));
+
+        assertThat(dates).hasSize(25);
+        assertThat(dates.get(0)).isAfterOrEqualTo(dates.get(dates.size() - 1));
+    }
+
+    @Test
+    void rangeSumsCombineRollupAndPartialMonths() {
+        Category rent = categoryService.findByName("Rent").orElseThrow();
+        Transaction moved = transactionService.createTransaction(user.getId(), rent.getId(),
+                new BigDecimal("500.00"), LocalDate.of(2024, 2, 10), null);
+        transactionService.createTransaction(user.getId(), rent.getId(), new BigDecimal("300.00"),
+                LocalDate.of(2024, 3, 3), null);
+
+        // Food rows of 10 run from 1 to 13 January 2024, 17 of them on or after the 5th
+        assertThat(transactionService.getTotalAmountByUserAndDateRange(user.getId(),
+                LocalDate.of(2024, 1, 5), LocalDate.of(2024, 3, 2))).isEqualByComparingTo("670");
+        assertThat(transactionService.getTotalAmountByUserAndCategoryAndDateRange(user.getId(), rent.getId(),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31))).isEqualByComparingTo("800");
+
+        // Moving a row to another month and category shifts it between rollup buckets
+        transactionService.updateTransaction(moved.getId(), user.getId(), food.getId(), new BigDecimal("50.00"),
+                LocalDate.of(2024, 4, 1), null, null);
+        assertThat(transactionService.getTotalAmountByUserAndCategoryAndDateRange(user.getId(), rent.getId(),
+                LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29))).isEqualByComparingTo("0");
+        assertThat(transactionService.getTotalAmountByUserAndCategoryAndDateRange(user.getId(), food.getId(),
+                LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 30))).isEqualByComparingTo("50");
+
+        transactionService.deleteTransaction(moved.getId(), user.getId());
+        assertThat(transactionService.getTotalAmountByUserAndDateRange(user.getId(),
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31))).isEqualByComparingTo("550");
+    }
+}
\ No newline at end of file
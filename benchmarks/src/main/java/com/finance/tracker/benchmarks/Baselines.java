@@ -0,0 +1,102 @@
+package com.finance.tracker.benchmarks;
+
+import com.finance.tracker.dto.TransactionRequest;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// The Map<String, Object> plumbing TransactionController used before the typed records, copied
+// here unchanged so each suite can measure the old path next to the one that replaced it
+final class Baselines {
+
+    private Baselines() {
+    }
+
+    static List<Map<String, Object>> mapPage(List<Transaction> transactions) {
+        return transactions.stream()
+                .map(Baselines::mapTransactionToDTO)
+                .collect(Collectors.toList());
+    }
+
+    static Map<String, Object> mapTransactionToDTO(Transaction transaction) {
+        Map<String, Object> dto = new HashMap<>();
+        dto.put("id", transaction.getId());
+        dto.put("amount", transaction.getAmount());
+        dto.put("date", transaction.getDate());
+        dto.put("note", transaction.getNote());
+        dto.put("categoryId", transaction.getCategory().getId());
+        dto.put("category", transaction.getCategory().getName());
+
+        String type = transaction.getCategory().getType() == Category.CategoryType.INCOME ? "income" : "expense";
+        dto.put("type", type);
+
+        dto.put("description", transaction.getNote() != null ? transaction.getNote() : "Transaction");
+
+        return dto;
+    }
+
+    // What the old handlers pulled out of the bound map, gathered into the record for a like-for-like result
+    static TransactionRequest bind(Map<String, Object> request) {
+        return new TransactionRequest(
+                getLongFromRequest(request, "categoryId"),
+                getBigDecimalFromRequest(request, "amount"),
+                getDateFromRequest(request, "date"),
+                (String) request.get("note"),
+                getLongFromRequest(request, "version"));
+    }
+
+    private static Long getLongFromRequest(Map<String, Object> request, String key) {
+        Object value = request.get(key);
+        if (value == null)
+            return null;
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Long.parseLong((String) value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid " + key + " format");
+            }
+        }
+        throw new IllegalArgumentException("Invalid " + key + " type");
+    }
+
+    private static BigDecimal getBigDecimalFromRequest(Map<String, Object> request, String key) {
+        Object value = request.get(key);
+        if (value == null)
+            return null;
+        if (value instanceof Number) {
+            return BigDecimal.valueOf(((Number) value).doubleValue());
+        }
+        if (value instanceof String) {
+            try {
+                return new BigDecimal((String) value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid " + key + " format");
+            }
+        }
+        throw new IllegalArgumentException("Invalid " + key + " type");
+    }
+
+    private static LocalDate getDateFromRequest(Map<String, Object> request, String key) {
+        Object value = request.get(key);
+        if (value == null)
+            return null;
+        if (value instanceof String) {
+            try {
+                return LocalDate.parse((String) value);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid " + key + " format. Use YYYY-MM-DD");
+            }
+        }
+        throw new IllegalArgumentException("Invalid " + key + " type");
+    }
+}
@@ -0,0 +1,37 @@
+package com.finance.tracker.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// JMH's own command line plus -alloc, which turns on the GC profiler so the run reports allocation
+// per operation (gc.alloc.rate.norm) next to the timings. That column is the one to compare between
+// runs: it is stable across machines where the timings are not. It is off by default because the
+// profiler's own bookkeeping adds a little to every timing.
+public class BenchmarkMain {
+
+    private static final String ALLOCATION_FLAG = "-alloc";
+
+    public static void main(String[] args) throws Exception {
+        List<String> jmhArgs = new ArrayList<>(List.of(args));
+        boolean reportAllocation = jmhArgs.remove(ALLOCATION_FLAG);
+        args = jmhArgs.toArray(new String[0]);
+
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListProfilers()
+                || commandLine.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(commandLine);
+        if (reportAllocation) {
+            options.addProfiler(GCProfiler.class);
+        }
+        new Runner(options.build()).run();
+    }
+}
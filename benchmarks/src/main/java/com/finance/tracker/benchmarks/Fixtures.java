@@ -0,0 +1,68 @@
+package com.finance.tracker.benchmarks;
+
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.model.Category;
+import com.finance.tracker.model.Transaction;
+import com.finance.tracker.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Deterministic in-memory rows shaped like production data, so runs are comparable
+final class Fixtures {
+
+    private static final String[] NOTES = { null, "Groceries", "Monthly rent", "Coffee with Sam",
+            "Electricity bill for the flat", null, "Salary" };
+
+    private Fixtures() {
+    }
+
+    static List<Transaction> transactions(int count) {
+        User user = new User("bench", "secret");
+        user.setId(1L);
+        List<Category> categories = List.of(
+                category(1L, "Food", Category.CategoryType.EXPENSE),
+                category(2L, "Rent", Category.CategoryType.EXPENSE),
+                category(3L, "Utilities", Category.CategoryType.EXPENSE),
+                category(4L, "Salary", Category.CategoryType.INCOME));
+
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextLong(1, 500_000), 2);
+            Transaction transaction = new Transaction(user, categories.get(i % categories.size()), amount,
+                    start.plusDays(i % 365), NOTES[i % NOTES.length]);
+            transaction.setId((long) i + 1);
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+
+    static List<TransactionResponse> responses(int count) {
+        List<TransactionResponse> responses = new ArrayList<>(count);
+        for (Transaction transaction : transactions(count)) {
+            responses.add(TransactionResponse.from(transaction));
+        }
+        return responses;
+    }
+
+    // Configured the way Spring Boot configures the application's mapper
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    private static Category category(Long id, String name, Category.CategoryType type) {
+        Category category = new Category(name, type);
+        category.setId(id);
+        return category;
+    }
+}
@@ -0,0 +1,74 @@
+package com.finance.tracker.benchmarks;
+
+import com.finance.tracker.dto.TransactionResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// JSON for a listing page (GET /api/transactions) and the same rows written one by one as
+// NDJSON, the way the streaming export does. The baseline writes the per-row HashMaps the listing
+// returned before the records, through the untyped writer a ResponseEntity<?> body gets.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListingSerializationBenchmark {
+
+    @Param({ "100", "500" })
+    private int pageSize;
+
+    private List<TransactionResponse> page;
+    private List<Map<String, Object>> mapPage;
+    private ObjectMapper objectMapper;
+    private ObjectWriter pageWriter;
+    private ObjectWriter rowWriter;
+
+    @Setup
+    public void setUp() {
+        page = Fixtures.responses(pageSize);
+        mapPage = Baselines.mapPage(Fixtures.transactions(pageSize));
+        objectMapper = Fixtures.objectMapper();
+        pageWriter = objectMapper.writerFor(new TypeReference<List<TransactionResponse>>() {
+        });
+        rowWriter = objectMapper.writerFor(TransactionResponse.class);
+    }
+
+    @Benchmark
+    public byte[] pageAsJsonArray() throws IOException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public int pageAsNdjson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(pageSize * 256);
+        for (TransactionResponse row : page) {
+            out.write(rowWriter.writeValueAsBytes(row));
+            out.write('\n');
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public byte[] baselineMapsAsJsonArray() throws IOException {
+        return objectMapper.writeValueAsBytes(mapPage);
+    }
+}
@@ -0,0 +1,75 @@
+package com.finance.tracker.benchmarks;
+
+import com.finance.tracker.dto.TransactionResponse;
+import com.finance.tracker.model.Transaction;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Entity to DTO mapping of one listing page, as TransactionController does for every row, next to
+// the per-row HashMap it replaced. The *AndWrite pairs include the JSON, which is what a listing
+// request actually pays for.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionMappingBenchmark {
+
+    @Param({ "100", "500" })
+    private int pageSize;
+
+    private List<Transaction> page;
+    private ObjectMapper objectMapper;
+    private ObjectWriter pageWriter;
+
+    @Setup
+    public void setUp() {
+        page = Fixtures.transactions(pageSize);
+        objectMapper = Fixtures.objectMapper();
+        pageWriter = objectMapper.writerFor(new TypeReference<List<TransactionResponse>>() {
+        });
+    }
+
+    @Benchmark
+    public List<TransactionResponse> mapPage() {
+        List<TransactionResponse> responses = new ArrayList<>(page.size());
+        for (Transaction transaction : page) {
+            responses.add(TransactionResponse.from(transaction));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> baselineMapPageToHashMaps() {
+        return Baselines.mapPage(page);
+    }
+
+    @Benchmark
+    public byte[] mapAndWritePage() throws IOException {
+        return pageWriter.writeValueAsBytes(mapPage());
+    }
+
+    @Benchmark
+    public byte[] baselineMapAndWritePageAsHashMaps() throws IOException {
+        return objectMapper.writeValueAsBytes(Baselines.mapPage(page));
+    }
+}
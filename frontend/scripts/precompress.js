@@ -0,0 +1,32 @@
+// Writes .br and .gz siblings for the text assets of the production build, so the backend can
+// send them as-is instead of compressing the bundle on every request
+const fs = require('fs');
+const path = require('path');
+const zlib = require('zlib');
+
+const BUILD_DIR = path.join(__dirname, '..', 'build');
+const EXTENSIONS = new Set(['.js', '.css', '.html', '.json', '.svg', '.txt']);
+const MIN_SIZE = 1024;
+
+const walk = (dir) => fs.readdirSync(dir, { withFileTypes: true }).flatMap((entry) => {
+  const file = path.join(dir, entry.name);
+  return entry.isDirectory() ? walk(file) : [file];
+});
+
+for (const file of walk(BUILD_DIR)) {
+  if (!EXTENSIONS.has(path.extname(file))) {
+    continue;
+  }
+  const content = fs.readFileSync(file);
+  if (content.length < MIN_SIZE) {
+    continue;
+  }
+  fs.writeFileSync(`${file}.gz`, zlib.gzipSync(content, { level: zlib.constants.Z_BEST_COMPRESSION }));
+  fs.writeFileSync(`${file}.br`, zlib.brotliCompressSync(content, {
+    params: {
+      [zlib.constants.BROTLI_PARAM_MODE]: zlib.constants.BROTLI_MODE_TEXT,
+      [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+      [zlib.constants.BROTLI_PARAM_SIZE_HINT]: content.length
+    }
+  }));
+}
@@ -23,7 +23,6 @@ const Budgets = () => {
     try {
       const response = await fetch(`/api/budgets?userId=${userId}`, {
         headers: {
-          // Keep auth header if token logic is introduced later
           'Authorization': `Bearer ${localStorage.getItem('token')}`
         }
       });
@@ -104,7 +103,9 @@ const Budgets = () => {
         body: JSON.stringify({
           categoryId: parseInt(formData.categoryId),
           monthlyLimit: parseFloat(formData.monthlyLimit),
-          userId
+          userId,
+          // Lets the server reject the edit if someone else changed the row meanwhile
+          version: editingBudget ? editingBudget.version : undefined
         })
       });
 
@@ -5,116 +5,37 @@ import './Dashboard.css';
 
 const Dashboard = () => {
   const { userId, displayName, preferredCurrency, monthlyIncomeGoal, logout } = useAuth();
-  const [transactions, setTransactions] = useState([]);
-  const [categories, setCategories] = useState([]);
+  const [summary, setSummary] = useState(null);
+  const [recentTransactions, setRecentTransactions] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
 
-  // Calculate financial summaries
-  const totalIncome = transactions
-    .filter(t => t.type === 'income')
-    .reduce((sum, t) => sum + t.amount, 0);
-
-  const totalExpense = transactions
-    .filter(t => t.type === 'expense')
-    .reduce((sum, t) => sum + t.amount, 0);
-
-  const netBalance = totalIncome - totalExpense;
-
-  // Get current month's transactions
-  const getCurrentMonthTransactions = () => {
-    const now = new Date();
-    const currentMonth = now.getMonth();
-    const currentYear = now.getFullYear();
-    
-    return transactions.filter(t => {
-      const transactionDate = new Date(t.date);
-      return transactionDate.getMonth() === currentMonth && 
-             transactionDate.getFullYear() === currentYear;
-    });
-  };
-
-  // Calculate monthly summary by category
-  const getMonthlyMummary = () => {
-    const currentMonthTransactions = getCurrentMonthTransactions();
-    const categoryTotals = {};
-    
-    // Initialize all categories with 0
-    categories.forEach(category => {
-      categoryTotals[category.id] = {
-        name: category.name,
-        income: 0,
-        expense: 0,
-        net: 0
-      };
-    });
-    
-    // Calculate totals for each category
-    currentMonthTransactions.forEach(transaction => {
-      const categoryId = transaction.categoryId;
-      if (categoryTotals[categoryId]) {
-        if (transaction.type === 'income') {
-          categoryTotals[categoryId].income += transaction.amount;
-        } else {
-          categoryTotals[categoryId].expense += transaction.amount;
-        }
-        categoryTotals[categoryId].net = categoryTotals[categoryId].income - categoryTotals[categoryId].expense;
-      }
-    });
-    
-    // Filter out categories with no transactions and sort by total activity
-    return Object.values(categoryTotals)
-      .filter(cat => cat.income > 0 || cat.expense > 0)
-      .sort((a, b) => (b.income + b.expense) - (a.income + a.expense));
-  };
-
-  // Get overall monthly totals
-  const getMonthlyTotals = () => {
-    const currentMonthTransactions = getCurrentMonthTransactions();
-    const monthlyIncome = currentMonthTransactions
-      .filter(t => t.type === 'income')
-      .reduce((sum, t) => sum + t.amount, 0);
-    const monthlyExpense = currentMonthTransactions
-      .filter(t => t.type === 'expense')
-      .reduce((sum, t) => sum + t.amount, 0);
-    
-    return {
-      income: monthlyIncome,
-      expense: monthlyExpense,
-      net: monthlyIncome - monthlyExpense
-    };
-  };
-
-  // Get recent transactions (last 10)
-  const recentTransactions = transactions
-    .sort((a, b) => new Date(b.date) - new Date(a.date))
-    .slice(0, 10);
-
   useEffect(() => {
     const fetchData = async () => {
       try {
         setLoading(true);
         setError('');
 
-        // Fetch all data in parallel
-        const [transactionsRes, categoriesRes] = await Promise.all([
-          fetch(`/api/transactions?userId=${userId}`),
-          fetch('/api/categories')
+        // Totals are aggregated server-side; only the latest rows are downloaded
+        const headers = { 'Authorization': `Bearer ${localStorage.getItem('token')}` };
+        const [summaryRes, transactionsRes] = await Promise.all([
+          fetch(`/api/dashboard?userId=${userId}`, { headers }),
+          fetch(`/api/transactions?userId=${userId}&limit=10`, { headers })
         ]);
 
         // Check if all requests were successful
-        if (!transactionsRes.ok || !categoriesRes.ok) {
+        if (!summaryRes.ok || !transactionsRes.ok) {
           throw new Error('Failed to fetch data');
         }
 
         // Parse all responses
-        const [transactionsData, categoriesData] = await Promise.all([
-          transactionsRes.json(),
-          categoriesRes.json()
+        const [summaryData, transactionsData] = await Promise.all([
+          summaryRes.json(),
+          transactionsRes.json()
         ]);
 
-        setTransactions(transactionsData);
-        setCategories(categoriesData);
+        setSummary(summaryData);
+        setRecentTransactions(transactionsData);
       } catch (err) {
         setError('Failed to load dashboard data. Please try again.');
         console.error('Dashboard fetch error:', err);
@@ -147,20 +68,26 @@ const Dashboard = () => {
     });
   };
 
-  const getCategoryName = (categoryId) => {
-    const category = categories.find(c => c.id === categoryId);
-    return category ? category.name : 'Unknown';
-  };
-
   const getCurrentMonthName = () => {
     return new Date().toLocaleDateString('en-US', { month: 'long', year: 'numeric' });
   };
 
+  // Current month totals from the dashboard summary
+  const getMonthlyTotals = () => {
+    if (!summary) return null;
+    return {
+      income: summary.monthlyIncome,
+      expense: summary.monthlyExpense,
+      net: summary.monthlyNet
+    };
+  };
+
   // Calculate income goal progress
   const getIncomeGoalProgress = () => {
     if (!monthlyIncomeGoal) return null;
     
     const monthlyTotals = getMonthlyTotals();
+    if (!monthlyTotals) return null;
     const progressPercentage = (monthlyTotals.income / monthlyIncomeGoal) * 100;
     
     return {
@@ -179,8 +106,11 @@ const Dashboard = () => {
     );
   }
 
-  const monthlySummary = getMonthlyMummary();
-  const monthlyTotals = getMonthlyTotals();
+  const totalIncome = summary ? summary.totalIncome : 0;
+  const totalExpense = summary ? summary.totalExpense : 0;
+  const netBalance = summary ? summary.netBalance : 0;
+  const monthlySummary = summary ? summary.categories : [];
+  const monthlyTotals = getMonthlyTotals() || { income: 0, expense: 0, net: 0 };
   const maxAmount = Math.max(...monthlySummary.map(cat => Math.max(cat.income, cat.expense)), 1);
   const incomeGoalProgress = getIncomeGoalProgress();
 
@@ -353,7 +283,7 @@ const Dashboard = () => {
                     <tr key={transaction.id}>
                       <td>{formatDate(transaction.date)}</td>
                       <td>{transaction.description}</td>
-                      <td>{getCategoryName(transaction.categoryId)}</td>
+                      <td>{transaction.category}</td>
                       <td>
                         <span className={`type-badge ${transaction.type}`}>
                           {transaction.type}
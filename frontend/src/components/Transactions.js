@@ -3,9 +3,19 @@ import { useAuth } from '../contexts/AuthContext';
 import { Link } from 'react-router-dom';
 import './Transactions.css';
 
+// Newest first, the order the API lists transactions in
+const compareTransactions = (a, b) => {
+  if (a.date !== b.date) {
+    return a.date < b.date ? 1 : -1;
+  }
+  return b.id - a.id;
+};
+
 const Transactions = () => {
   const { userId, preferredCurrency } = useAuth();
   const [transactions, setTransactions] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [watermark, setWatermark] = useState(null);
   const [categories, setCategories] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
@@ -31,6 +41,8 @@ const Transactions = () => {
       if (response.ok) {
         const data = await response.json();
         setTransactions(data);
+        setNextCursor(response.headers.get('X-Next-Cursor'));
+        setWatermark(response.headers.get('X-Sync-Watermark'));
       } else {
         setError('Failed to fetch transactions');
       }
@@ -39,6 +51,57 @@ const Transactions = () => {
     }
   }, [userId]);
 
+  // Apply only what changed since the last load instead of downloading the list again
+  const syncTransactions = async () => {
+    if (watermark === null) {
+      await fetchTransactions();
+      return;
+    }
+    try {
+      const response = await fetch(`/api/transactions/changes?since=${watermark}`, {
+        headers: {
+          'Authorization': `Bearer ${localStorage.getItem('token')}`
+        }
+      });
+      if (!response.ok) {
+        await fetchTransactions();
+        return;
+      }
+      const changes = await response.json();
+      setTransactions(prev => {
+        const removed = new Set([...changes.deleted, ...changes.changed.map(t => t.id)]);
+        const kept = prev.filter(t => !removed.has(t.id));
+        // Rows older than the loaded pages arrive with "Load more" instead
+        const oldest = nextCursor && prev.length > 0 ? prev[prev.length - 1] : null;
+        const added = changes.changed.filter(t => !oldest || compareTransactions(t, oldest) <= 0);
+        return [...kept, ...added].sort(compareTransactions);
+      });
+      setWatermark(String(changes.watermark));
+    } catch (err) {
+      setError('Error fetching transactions');
+    }
+  };
+
+  // Fetch the next page of older transactions
+  const loadMoreTransactions = async () => {
+    try {
+      const response = await fetch(`/api/transactions?userId=${userId}&cursor=${encodeURIComponent(nextCursor)}`, {
+        headers: {
+          'Authorization': `Bearer ${localStorage.getItem('token')}`
+        }
+      });
+      if (response.ok) {
+        const data = await response.json();
+        setTransactions(prev => [...prev, ...data]);
+        setNextCursor(response.headers.get('X-Next-Cursor'));
+      } else {
+        setError('Failed to fetch transactions');
+      }
+    } catch (err) {
+      setError('Error fetching transactions');
+    }
+  };
+
   // Fetch categories for dropdown
   const fetchCategories = useCallback(async () => {
     try {
@@ -118,12 +181,14 @@ const Transactions = () => {
           date: formData.date,
           categoryId: selectedCategory.id,
           note: formData.note,
-          userId
+          userId,
+          // Lets the server reject the edit if someone else changed the row meanwhile
+          version: editingTransaction ? editingTransaction.version : undefined
         })
       });
 
       if (response.ok) {
-        await fetchTransactions(); // Refresh the list
+        await syncTransactions();
         resetForm();
         setShowForm(false);
       } else {
@@ -150,7 +215,7 @@ const Transactions = () => {
       });
 
       if (response.ok) {
-        await fetchTransactions(); // Refresh the list
+        await syncTransactions();
       } else {
         setError('Failed to delete transaction');
       }
@@ -372,6 +437,11 @@ const Transactions = () => {
                   </span>
                 </div>
               ))}
+              {nextCursor && (
+                <button onClick={loadMoreTransactions} className="load-more-btn">
+                  Load more
+                </button>
+              )}
             </div>
           )}
         </div>
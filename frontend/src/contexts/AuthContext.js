@@ -21,11 +21,16 @@ export const AuthProvider = ({ children }) => {
     if (storedUser) {
       try {
         const userData = JSON.parse(storedUser);
+        // Sessions stored before tokens were issued have to log in again
+        if (!userData.token || !localStorage.getItem('token')) {
+          throw new Error('Stored session has no token');
+        }
         setUser(userData);
         setIsAuthenticated(true);
       } catch (error) {
-        // Handle invalid JSON in localStorage
+        // Handle invalid JSON or a tokenless session in localStorage
         localStorage.removeItem('user');
+        localStorage.removeItem('token');
         localStorage.removeItem('userId'); // Clean up old userId storage
       }
     } else {
@@ -42,6 +47,8 @@ export const AuthProvider = ({ children }) => {
     setUser(userData);
     setIsAuthenticated(true);
     localStorage.setItem('user', JSON.stringify(userData));
+    // Session token sent as the Authorization header on every API call
+    localStorage.setItem('token', userData.token);
     // Clean up old userId storage if it exists
     localStorage.removeItem('userId');
   };
@@ -50,6 +57,7 @@ export const AuthProvider = ({ children }) => {
     setUser(null);
     setIsAuthenticated(false);
     localStorage.removeItem('user');
+    localStorage.removeItem('token');
     localStorage.removeItem('userId'); // Clean up old storage
   };
 